@@ -0,0 +1,87 @@
+package com.kernelLetter.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kernelLetter.dto.KakaoUserInfoDTO;
+import com.kernelLetter.service.KakaoResponseReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 카카오 응답 파싱 벤치마크
+ * 기존 방식(요청마다 ObjectMapper 생성 + Map 파싱)과 공유 ObjectReader + DTO 바인딩 비교
+ * (-prof gc 옵션으로 실행하면 요청당 할당량도 함께 확인 가능)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class KakaoResponseParsingBenchmark {
+
+    private static final String TOKEN_RESPONSE = "{"
+            + "\"token_type\":\"bearer\","
+            + "\"access_token\":\"p4T8b0aXcQ9yW2rN7mLk3sJv6dHf1gZu5eCi8oBn2tRx\","
+            + "\"expires_in\":43199,"
+            + "\"refresh_token\":\"Zx9vB3nM6qW1eR4tY7uI0oP2aS5dF8gH1jK4lQ7wE0rT\","
+            + "\"refresh_token_expires_in\":5183999,"
+            + "\"scope\":\"account_email profile_nickname\"}";
+
+    private static final String USER_INFO_RESPONSE = "{"
+            + "\"id\":3456789012,"
+            + "\"connected_at\":\"2025-03-01T09:12:45Z\","
+            + "\"properties\":{\"nickname\":\"커널러\",\"profile_image\":\"http://k.kakaocdn.net/dn/profile.jpg\","
+            + "\"thumbnail_image\":\"http://k.kakaocdn.net/dn/thumb.jpg\"},"
+            + "\"kakao_account\":{\"profile_nickname_needs_agreement\":false,"
+            + "\"profile\":{\"nickname\":\"커널러\",\"is_default_image\":false},"
+            + "\"has_email\":true,\"email_needs_agreement\":false,\"is_email_valid\":true,"
+            + "\"is_email_verified\":true,\"email\":\"kernel@kakao.com\"}}";
+
+    private final ObjectMapper sharedMapper = new ObjectMapper();
+
+    private KakaoResponseReader kakaoResponseReader;
+    private byte[] tokenBytes;
+    private byte[] userInfoBytes;
+
+    @Setup
+    public void setUp() {
+        kakaoResponseReader = new KakaoResponseReader(sharedMapper);
+        tokenBytes = TOKEN_RESPONSE.getBytes(StandardCharsets.UTF_8);
+        userInfoBytes = USER_INFO_RESPONSE.getBytes(StandardCharsets.UTF_8);
+    }
+
+    // 기존 KakaoTokenProvider 방식
+    @Benchmark
+    public String tokenNewMapperMap() throws IOException {
+        Map<String, Object> responseMap = new ObjectMapper().readValue(TOKEN_RESPONSE, Map.class);
+        return (String) responseMap.get("access_token");
+    }
+
+    @Benchmark
+    public String tokenSharedReader() throws IOException {
+        return kakaoResponseReader.readAccessToken(tokenBytes);
+    }
+
+    // 기존 KakaoUserInfoProvider 방식 (RestTemplate 이 Map 으로 변환)
+    @Benchmark
+    public KakaoUserInfoDTO userInfoMap() throws IOException {
+        Map<String, Object> responseBody = sharedMapper.readValue(userInfoBytes, Map.class);
+        Map<String, Object> kakaoAccount = (Map<String, Object>) responseBody.get("kakao_account");
+        return KakaoUserInfoDTO.builder()
+                .kakaoId(String.valueOf(responseBody.get("id")))
+                .kakaoEmail(kakaoAccount != null ? (String) kakaoAccount.get("email") : null)
+                .build();
+    }
+
+    @Benchmark
+    public KakaoUserInfoDTO userInfoSharedReader() throws IOException {
+        return kakaoResponseReader.readUserInfo(userInfoBytes);
+    }
+}
@@ -0,0 +1,106 @@
+package com.kernelLetter.benchmark;
+
+import com.kernelLetter.domain.entity.User;
+import com.kernelLetter.dto.LetterBatchResultDto;
+import com.kernelLetter.dto.LetterSendDto;
+import com.kernelLetter.repository.LetterRepository;
+import com.kernelLetter.repository.UserRepository;
+import com.kernelLetter.service.LetterService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 편지 일괄 작성 JDBC 배치 벤치마크
+ * hibernate.jdbc.batch_size 를 1(배치 없음) 과 50(application-prod.yml 과 같은 값) 으로 바꿔가며
+ * sendLetters 로 편지 LETTERS_PER_CALL 통을 한 번에 작성하는 비용 비교
+ * (MySQL 의 rewriteBatchedStatements 효과는 H2 에서 재현되지 않으므로 Hibernate 배치 효과만 측정)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LetterBatchWriteBenchmark {
+
+    private static final int USER_COUNT = 2000;
+    private static final int LETTERS_PER_CALL = 50;
+
+    private static final String CONTENT = "안녕하세요, 그동안 정말 고마웠어요. ";
+
+    @Param({"1", "50"})
+    private int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private LetterService letterService;
+    private LetterRepository letterRepository;
+
+    private Long[] userIds;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(LetterServiceBenchmark.BenchmarkApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:batch-benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "spring.datasource.driver-class-name=org.h2.Driver",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                        "spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                        "spring.jpa.properties.hibernate.order_inserts=true",
+                        "logging.level.root=WARN")
+                .run();
+
+        letterService = context.getBean(LetterService.class);
+        letterRepository = context.getBean(LetterRepository.class);
+        UserRepository userRepository = context.getBean(UserRepository.class);
+
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < USER_COUNT; i++) {
+            users.add(User.builder().kakaoId("batch-benchmark-" + i).name("user" + i).isFirstLogin(false).build());
+        }
+        userIds = userRepository.saveAll(users).stream().map(User::getId).toArray(Long[]::new);
+    }
+
+    // 반복(iteration)마다 편지를 비워서 (보내는 사람, 받는 사람) 쌍을 처음부터 다시 사용 (본문은 ON DELETE CASCADE)
+    @TearDown(Level.Iteration)
+    public void clearLetters() {
+        letterRepository.deleteAllInBatch();
+        sequence = 0;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    // 한 사람이 서로 다른 LETTERS_PER_CALL 명에게 보내는 편지를 한 번에 작성
+    @Benchmark
+    public List<LetterBatchResultDto> sendLetters() {
+        long call = sequence++;
+        Long senderId = userIds[(int) (call % USER_COUNT)];
+        int firstReceiver = (int) (call / USER_COUNT * LETTERS_PER_CALL % USER_COUNT);
+
+        List<LetterSendDto> dtos = new ArrayList<>(LETTERS_PER_CALL);
+        for (int i = 0; i < LETTERS_PER_CALL; i++) {
+            dtos.add(new LetterSendDto(senderId, userIds[(firstReceiver + i) % USER_COUNT], CONTENT));
+        }
+
+        return letterService.sendLetters(dtos);
+    }
+}
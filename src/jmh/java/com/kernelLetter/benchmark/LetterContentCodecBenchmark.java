@@ -0,0 +1,124 @@
+package com.kernelLetter.benchmark;
+
+import com.kernelLetter.domain.converter.LetterContentConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 편지 본문 저장 코덱 벤치마크
+ * 한글 편지 본문을 원문(UTF-8) / Deflate 레벨별로 저장, 복원하는 비용을 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LetterContentCodecBenchmark {
+
+    private static final String[] SENTENCES = {
+            "안녕하세요, 그동안 정말 고마웠어요. ",
+            "함께 밤새 코딩하던 날들이 아직도 생생하게 기억나요. ",
+            "힘들 때마다 먼저 말 걸어줘서 큰 힘이 되었습니다. ",
+            "앞으로 어디에 있든 늘 응원할게요! ",
+            "다음에 꼭 맛있는 밥 한번 같이 먹어요 :) ",
+            "커널 과제 하면서 포기하고 싶을 때 옆에서 도와줘서 고마워요. ",
+            "우리 나중에 또 같은 팀이 되면 좋겠다. "
+    };
+
+    // 본문 길이 (글자 수) - 짧은 편지, 보통 편지, 긴 편지
+    @Param({"100", "500", "2000"})
+    private int length;
+
+    @Param({"1", "6", "9"})
+    private int level;
+
+    private String content;
+    private byte[] utf8;
+    private byte[] deflated;
+    private byte[] stored;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; builder.length() < length; i++) {
+            builder.append(SENTENCES[(i * 3) % SENTENCES.length]);
+        }
+        content = builder.substring(0, length);
+        utf8 = content.getBytes(StandardCharsets.UTF_8);
+        deflated = deflate(utf8, level);
+        stored = LetterContentConverter.encode(content);
+    }
+
+    @Benchmark
+    public byte[] rawEncode() {
+        return content.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String rawDecode() {
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] deflateEncode() {
+        return deflate(content.getBytes(StandardCharsets.UTF_8), level);
+    }
+
+    @Benchmark
+    public String deflateDecode() throws DataFormatException {
+        return new String(inflate(deflated, utf8.length), StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] converterEncode() {
+        return LetterContentConverter.encode(content);
+    }
+
+    @Benchmark
+    public String converterDecode() {
+        return LetterContentConverter.decode(stored);
+    }
+
+    private static byte[] deflate(byte[] input, int level) {
+        Deflater deflater = new Deflater(level);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length);
+            byte[] buffer = new byte[1024];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] input, int originalLength) throws DataFormatException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(input);
+            byte[] output = new byte[originalLength];
+            int written = 0;
+            while (written < originalLength && !inflater.finished()) {
+                written += inflater.inflate(output, written, originalLength - written);
+            }
+            return output;
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.kernelLetter.benchmark;
+
+import com.kernelLetter.domain.entity.User;
+import com.kernelLetter.dto.LetterPatchDto;
+import com.kernelLetter.dto.LetterSendDto;
+import com.kernelLetter.repository.LetterRepository;
+import com.kernelLetter.repository.UserRepository;
+import com.kernelLetter.service.LetterService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LetterService 벤치마크 (작성 / 수정 / 삭제)
+ * 테스트와 같은 H2 (MySQL 모드) 위에서 트랜잭션, 제약 조건 검사, 본문 인코딩까지 포함한 서비스 호출 비용 측정
+ * 웹 서버 없이 JPA 와 LetterService 만 띄워서 실행
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LetterServiceBenchmark {
+
+    // sendLetter 는 (보내는 사람, 받는 사람) 쌍마다 한 번만 가능하므로 USER_COUNT² 개의 쌍을 차례로 사용
+    private static final int USER_COUNT = 2000;
+
+    private static final String SHORT_CONTENT = "안녕하세요, 그동안 정말 고마웠어요. ";
+    private static final String LONG_CONTENT = "함께 밤새 코딩하던 날들이 아직도 생생하게 기억나요. ".repeat(40);
+
+    private ConfigurableApplicationContext context;
+    private LetterService letterService;
+    private LetterRepository letterRepository;
+
+    private Long[] userIds;
+    private long sequence;
+
+    // 수정 / 삭제 전용 사용자 (sendLetter 가 쓰는 쌍과 겹치지 않도록 분리)
+    private Long patchSenderId;
+    private Long patchReceiverId;
+    private Long deleteSenderId;
+    private Long deleteReceiverId;
+    private boolean longPatch;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(BenchmarkApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "spring.datasource.driver-class-name=org.h2.Driver",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                        "logging.level.root=WARN")
+                .run();
+
+        letterService = context.getBean(LetterService.class);
+        letterRepository = context.getBean(LetterRepository.class);
+        UserRepository userRepository = context.getBean(UserRepository.class);
+
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < USER_COUNT + 4; i++) {
+            users.add(User.builder().kakaoId("benchmark-" + i).name("user" + i).isFirstLogin(false).build());
+        }
+        List<User> saved = userRepository.saveAll(users);
+
+        userIds = saved.subList(0, USER_COUNT).stream().map(User::getId).toArray(Long[]::new);
+        patchSenderId = saved.get(USER_COUNT).getId();
+        patchReceiverId = saved.get(USER_COUNT + 1).getId();
+        deleteSenderId = saved.get(USER_COUNT + 2).getId();
+        deleteReceiverId = saved.get(USER_COUNT + 3).getId();
+
+        letterService.sendLetter(new LetterSendDto(patchSenderId, patchReceiverId, SHORT_CONTENT));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void sendLetter() {
+        long pair = sequence++ % ((long) USER_COUNT * USER_COUNT);
+        Long senderId = userIds[(int) (pair / USER_COUNT)];
+        Long receiverId = userIds[(int) (pair % USER_COUNT)];
+
+        letterService.sendLetter(new LetterSendDto(senderId, receiverId, SHORT_CONTENT));
+    }
+
+    // 짧은 본문(원문 저장)과 긴 본문(압축 저장)을 번갈아 수정
+    @Benchmark
+    public void patch() {
+        longPatch = !longPatch;
+        letterService.patch(patchReceiverId,
+                new LetterPatchDto(patchSenderId, longPatch ? LONG_CONTENT : SHORT_CONTENT));
+    }
+
+    @Benchmark
+    public void delete(DeleteTarget target) {
+        letterService.delete(target.letterId, deleteSenderId);
+    }
+
+    // 삭제할 편지를 호출마다 새로 작성 (작성 비용은 측정에서 제외)
+    @State(Scope.Thread)
+    public static class DeleteTarget {
+
+        private Long letterId;
+
+        @Setup(Level.Invocation)
+        public void prepare(LetterServiceBenchmark benchmark) {
+            benchmark.letterService.sendLetter(
+                    new LetterSendDto(benchmark.deleteSenderId, benchmark.deleteReceiverId, SHORT_CONTENT));
+            letterId = benchmark.letterRepository
+                    .findBySenderIdAndReceiverId(benchmark.deleteSenderId, benchmark.deleteReceiverId)
+                    .orElseThrow()
+                    .getId();
+        }
+    }
+
+    @Configuration
+    @EnableAutoConfiguration
+    @EntityScan("com.kernelLetter.domain.entity")
+    @EnableJpaRepositories("com.kernelLetter.repository")
+    @Import(LetterService.class)
+    static class BenchmarkApplication {
+    }
+}
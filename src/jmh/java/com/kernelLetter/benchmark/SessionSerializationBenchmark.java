@@ -0,0 +1,73 @@
+package com.kernelLetter.benchmark;
+
+import com.kernelLetter.domain.entity.User;
+import com.kernelLetter.dto.SessionUser;
+import com.kernelLetter.global.session.SessionValueSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 세션 사용자 정보 생성 / 직렬화 벤치마크
+ * JDK 직렬화와 SessionValueSerializer 의 바이너리 형식 비교 (세션 저장소에 매 요청 쓰고 읽는 비용)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SessionSerializationBenchmark {
+
+    private final SessionValueSerializer compactSerializer = new SessionValueSerializer();
+    private final JdkSerializationRedisSerializer jdkSerializer = new JdkSerializationRedisSerializer();
+
+    private User user;
+    private SessionUser sessionUser;
+    private byte[] compactBytes;
+    private byte[] jdkBytes;
+
+    @Setup
+    public void setUp() {
+        user = User.builder()
+                .id(3456789012L)
+                .kakaoId("3456789012")
+                .kakaoEmail("kernel@kakao.com")
+                .name("커널러")
+                .email("kernel@example.com")
+                .isFirstLogin(false)
+                .build();
+        sessionUser = SessionUser.fromUser(user);
+        compactBytes = compactSerializer.serialize(sessionUser);
+        jdkBytes = jdkSerializer.serialize(sessionUser);
+    }
+
+    @Benchmark
+    public SessionUser fromUser() {
+        return SessionUser.fromUser(user);
+    }
+
+    @Benchmark
+    public byte[] compactSerialize() {
+        return compactSerializer.serialize(sessionUser);
+    }
+
+    @Benchmark
+    public Object compactDeserialize() {
+        return compactSerializer.deserialize(compactBytes);
+    }
+
+    @Benchmark
+    public byte[] jdkSerialize() {
+        return jdkSerializer.serialize(sessionUser);
+    }
+
+    @Benchmark
+    public Object jdkDeserialize() {
+        return jdkSerializer.deserialize(jdkBytes);
+    }
+}
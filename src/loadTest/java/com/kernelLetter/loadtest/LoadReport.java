@@ -0,0 +1,156 @@
+package com.kernelLetter.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 부하 테스트 결과 집계
+ * 가상 사용자마다 Recorder 를 하나씩 가지고 기록하다가 (스레드 간 경합 없음) 끝난 뒤 한 번에 합쳐서
+ * 요청 종류별 처리량과 지연 시간 백분위(p50 / p90 / p95 / p99 / max)를 계산
+ */
+public class LoadReport {
+
+    private static final double[] PERCENTILES = {50, 90, 95, 99};
+
+    private final Map<String, Operation> operations;
+    private final Duration elapsed;
+
+    private LoadReport(Map<String, Operation> operations, Duration elapsed) {
+        this.operations = operations;
+        this.elapsed = elapsed;
+    }
+
+    // 가상 사용자별 기록을 요청 종류별로 합침
+    public static LoadReport merge(List<Recorder> recorders, Duration elapsed) {
+        Map<String, List<long[]>> samples = new TreeMap<>();
+        Map<String, Integer> errors = new TreeMap<>();
+
+        for (Recorder recorder : recorders) {
+            recorder.samples.forEach((name, list) -> samples.computeIfAbsent(name, k -> new ArrayList<>()).add(list.toArray()));
+            recorder.errors.forEach((name, count) -> errors.merge(name, count, Integer::sum));
+        }
+
+        Map<String, Operation> operations = new LinkedHashMap<>();
+        samples.forEach((name, parts) -> {
+            long[] latencies = parts.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+            operations.put(name, new Operation(latencies, errors.getOrDefault(name, 0)));
+        });
+        errors.forEach((name, count) -> operations.putIfAbsent(name, new Operation(new long[0], count)));
+
+        return new LoadReport(operations, elapsed);
+    }
+
+    // 콘솔에 요청 종류별 결과 표 출력
+    public void print() {
+        double seconds = elapsed.toMillis() / 1000.0;
+
+        System.out.printf("%n=== 부하 테스트 결과 (%.1fs) ===%n", seconds);
+        System.out.printf("%-14s %8s %7s %9s %8s %8s %8s %8s %8s%n",
+                "operation", "count", "errors", "req/s", "p50(ms)", "p90(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+
+        long total = 0;
+        int totalErrors = 0;
+        for (Map.Entry<String, Operation> entry : operations.entrySet()) {
+            Operation operation = entry.getValue();
+            System.out.printf("%-14s %8d %7d %9.1f %8.1f %8.1f %8.1f %8.1f %8.1f%n",
+                    entry.getKey(), operation.count(), operation.errors(), operation.count() / seconds,
+                    operation.percentileMillis(50), operation.percentileMillis(90),
+                    operation.percentileMillis(95), operation.percentileMillis(99), operation.maxMillis());
+            total += operation.count();
+            totalErrors += operation.errors();
+        }
+
+        System.out.printf("%-14s %8d %7d %9.1f%n", "total", total, totalErrors, total / seconds);
+    }
+
+    // 결과를 JSON 파일로 저장 (실행 간 비교용)
+    public void writeJson(Path file) throws IOException {
+        double seconds = elapsed.toMillis() / 1000.0;
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("elapsedSeconds", seconds);
+
+        Map<String, Object> byOperation = new LinkedHashMap<>();
+        operations.forEach((name, operation) -> {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("count", operation.count());
+            stats.put("errors", operation.errors());
+            stats.put("throughput", operation.count() / seconds);
+            for (double percentile : PERCENTILES) {
+                stats.put("p" + (int) percentile + "Millis", operation.percentileMillis(percentile));
+            }
+            stats.put("maxMillis", operation.maxMillis());
+            byOperation.put(name, stats);
+        });
+        result.put("operations", byOperation);
+
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), result);
+    }
+
+    // 가상 사용자 한 명의 기록 (한 스레드에서만 사용)
+    public static class Recorder {
+
+        private final Map<String, LongList> samples = new TreeMap<>();
+        private final Map<String, Integer> errors = new TreeMap<>();
+
+        // 성공한 요청의 지연 시간 기록
+        public void success(String operation, long nanos) {
+            samples.computeIfAbsent(operation, k -> new LongList()).add(nanos);
+        }
+
+        // 실패한 요청 수 기록 (지연 시간 백분위에는 포함하지 않음)
+        public void error(String operation) {
+            errors.merge(operation, 1, Integer::sum);
+        }
+    }
+
+    private record Operation(long[] sortedNanos, int errors) {
+
+        long count() {
+            return sortedNanos.length;
+        }
+
+        // nearest-rank 방식 백분위
+        double percentileMillis(double percentile) {
+            if (sortedNanos.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(percentile / 100 * sortedNanos.length);
+            return sortedNanos[Math.max(rank, 1) - 1] / 1_000_000.0;
+        }
+
+        double maxMillis() {
+            return sortedNanos.length == 0 ? 0 : sortedNanos[sortedNanos.length - 1] / 1_000_000.0;
+        }
+    }
+
+    // 박싱 없이 지연 시간을 모아 두는 가변 long 배열
+    private static class LongList {
+
+        private long[] values = new long[1024];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
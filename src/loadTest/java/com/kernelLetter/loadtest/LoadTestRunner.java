@@ -0,0 +1,98 @@
+package com.kernelLetter.loadtest;
+
+import com.kernelLetter.KernelLetterApplication;
+import com.kernelLetter.support.KakaoStubServer;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 종단 간 부하 테스트 (./gradlew loadTest)
+ * 로컬 카카오 스텁 서버와 H2 (MySQL 모드) 위에 애플리케이션을 띄우고, 가상 사용자들이 가상 스레드에서
+ * 로그인 / 추가 정보 등록 / 편지 작성, 수정, 조회, 삭제를 섞어서 보낸 뒤 처리량과 지연 시간 백분위를 출력
+ *
+ * 설정 (시스템 프로퍼티, gradle 에서는 -PloadTest.users=200 처럼 전달)
+ * - loadTest.users : 동시 가상 사용자 수 (기본 50)
+ * - loadTest.duration : 측정 시간 (기본 PT60S, ISO-8601)
+ * - loadTest.kakaoLatency : 카카오 스텁 응답 지연 ms (기본 50)
+ * - loadTest.output : 결과 JSON 파일 경로 (없으면 콘솔 출력만)
+ */
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws Exception {
+        int users = Integer.getInteger("loadTest.users", 50);
+        Duration duration = Duration.parse(System.getProperty("loadTest.duration", "PT60S"));
+        long kakaoLatency = Long.getLong("loadTest.kakaoLatency", 50);
+        String output = System.getProperty("loadTest.output");
+
+        try (KakaoStubServer kakaoStub = KakaoStubServer.start(Duration.ofMillis(kakaoLatency));
+             ConfigurableApplicationContext context = startApplication(kakaoStub, users)) {
+
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            System.out.printf("부하 테스트 시작: 가상 사용자 %d명, %s, 카카오 지연 %dms%n", users, duration, kakaoLatency);
+
+            LoadReport report = run(baseUrl, users, duration);
+            report.print();
+            if (output != null) {
+                report.writeJson(Path.of(output));
+                System.out.println("결과 저장: " + output);
+            }
+        }
+    }
+
+    // 테스트와 같은 H2 (MySQL 모드) 에 카카오 API 주소만 스텁으로 바꿔서 실행
+    // 가상 사용자 수만큼 카카오 호출이 동시에 걸릴 수 있으므로 벌크헤드 제한을 그만큼 늘림
+    // 모든 가상 사용자가 같은 IP 로 로그인하므로 요청 수 제한은 끔
+    private static ConfigurableApplicationContext startApplication(KakaoStubServer kakaoStub, int users) {
+        return new SpringApplicationBuilder(KernelLetterApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:loadtest;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "spring.datasource.driver-class-name=org.h2.Driver",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                        "kakao.client-id=load-test-client-id",
+                        "kakao.client-secret=load-test-client-secret",
+                        "kakao.redirect-uri=http://localhost/auth/kakao/callback",
+                        "kakao.token-uri=" + kakaoStub.tokenUri(),
+                        "kakao.user-info-uri=" + kakaoStub.userInfoUri(),
+                        "resilience4j.bulkhead.instances.kakaoToken.max-concurrent-calls=" + Math.max(users, 100),
+                        "resilience4j.bulkhead.instances.kakaoUserInfo.max-concurrent-calls=" + Math.max(users, 100),
+                        "rate-limit.enabled=false",
+                        "logging.level.root=WARN")
+                .run();
+    }
+
+    private static LoadReport run(String baseUrl, int users, Duration duration) {
+        HttpClient client = HttpClient.newBuilder()
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        CopyOnWriteArrayList<VirtualUser> registeredUsers = new CopyOnWriteArrayList<>();
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+
+        List<VirtualUser> virtualUsers = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < users; i++) {
+                VirtualUser virtualUser = new VirtualUser(i, baseUrl, client, registeredUsers, deadline);
+                virtualUsers.add(virtualUser);
+                executor.submit(virtualUser);
+            }
+        }
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        return LoadReport.merge(virtualUsers.stream().map(VirtualUser::recorder).toList(), elapsed);
+    }
+}
@@ -0,0 +1,238 @@
+package com.kernelLetter.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 부하 테스트의 가상 사용자 한 명
+ * 카카오 로그인 → 추가 정보 등록 → 내 정보 조회 후, 종료 시각까지 아래 흐름을 반복
+ * 편지 작성(POST) → 자동 저장(PATCH .../draft) DRAFTS_PER_EDIT 번 → 수정(PATCH) → 받는 사람이 받은 편지함에서 편지 찾기(GET) → 삭제(DELETE)
+ * RELOGIN_EVERY 번마다 기존 사용자로 다시 로그인 (세션 쿠키 교체)
+ */
+public class VirtualUser implements Runnable {
+
+    private static final int RELOGIN_EVERY = 10;
+    private static final int DRAFTS_PER_EDIT = 3;
+    private static final int INBOX_PAGE_SIZE = 100;
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final int number;
+    private final String baseUrl;
+    private final HttpClient client;
+    private final List<VirtualUser> registeredUsers;
+    private final long deadlineNanos;
+    private final LoadReport.Recorder recorder = new LoadReport.Recorder();
+
+    // 받는 사람 역할로 다른 가상 사용자의 스레드에서도 읽음
+    private volatile String sessionCookie;
+    private volatile Long userId;
+    private int loginCount;
+    private long lastElapsedNanos;
+
+    public VirtualUser(int number, String baseUrl, HttpClient client,
+                       List<VirtualUser> registeredUsers, long deadlineNanos) {
+        this.number = number;
+        this.baseUrl = baseUrl;
+        this.client = client;
+        this.registeredUsers = registeredUsers;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    public LoadReport.Recorder recorder() {
+        return recorder;
+    }
+
+    @Override
+    public void run() {
+        try {
+            if (!login("login.first", "/register") || !register() || !me()) {
+                return;
+            }
+            registeredUsers.add(this);
+
+            for (int iteration = 1; System.nanoTime() < deadlineNanos; iteration++) {
+                VirtualUser receiver = pickReceiver();
+                if (receiver == null) {
+                    Thread.sleep(10);
+                    continue;
+                }
+                Long receiverId = receiver.userId;
+
+                if (sendLetter(receiverId)) {
+                    for (int i = 0; i < DRAFTS_PER_EDIT; i++) {
+                        saveDraft(receiverId);
+                    }
+                    patchLetter(receiverId);
+                    Long letterId = findLetterId(receiver);
+                    if (letterId != null) {
+                        deleteLetter(letterId);
+                    }
+                }
+
+                if (iteration % RELOGIN_EVERY == 0) {
+                    login("login.returning", "/");
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // 카카오 콜백으로 로그인하고 새 세션 쿠키를 보관
+    private boolean login(String operation, String expectedPath) throws InterruptedException {
+        String code = number + "-" + (++loginCount);
+        HttpResponse<String> response = send(request("/auth/kakao/callback?code=" + code).GET(), false);
+        if (response == null || response.statusCode() != 302
+                || !response.headers().firstValue("Location").orElse("").endsWith(expectedPath)) {
+            return fail(operation);
+        }
+        recorder.success(operation, lastElapsedNanos);
+
+        sessionCookie = response.headers().allValues("Set-Cookie").stream()
+                .filter(cookie -> cookie.startsWith("JSESSIONID="))
+                .map(cookie -> cookie.substring(0, cookie.indexOf(';')))
+                .findFirst()
+                .orElse(sessionCookie);
+        return true;
+    }
+
+    private boolean register() throws InterruptedException {
+        String body = "{\"name\":\"load" + number + "\",\"email\":\"load" + number + "@kernel.com\"}";
+        return ok("register", send(jsonRequest("/api/user/register").POST(body(body)), true));
+    }
+
+    // 내 정보 조회로 편지 작성에 쓸 사용자 ID 확보
+    private boolean me() throws InterruptedException {
+        HttpResponse<String> response = send(request("/api/user/me").GET(), true);
+        if (!ok("me", response)) {
+            return false;
+        }
+        userId = readTree(response.body()).path("id").asLong();
+        return true;
+    }
+
+    private boolean sendLetter(Long receiverId) throws InterruptedException {
+        String body = "{\"senderId\":" + userId + ",\"receiverId\":" + receiverId
+                + ",\"content\":\"" + content() + "\"}";
+        HttpRequest.Builder request = jsonRequest("/Letter")
+                .header("Idempotency-Key", UUID.randomUUID().toString())
+                .POST(body(body));
+        return ok("letter.send", send(request, true));
+    }
+
+    private void saveDraft(Long receiverId) throws InterruptedException {
+        String body = "{\"senderId\":" + userId + ",\"content\":\"" + content() + " (초안)\"}";
+        ok("letter.draft", send(jsonRequest("/Letter/" + receiverId + "/draft").method("PATCH", body(body)), true));
+    }
+
+    private void patchLetter(Long receiverId) throws InterruptedException {
+        String body = "{\"senderId\":" + userId + ",\"content\":\"" + content() + " (수정)\"}";
+        ok("letter.patch", send(jsonRequest("/Letter/" + receiverId).method("PATCH", body(body)), true));
+    }
+
+    // 받는 사람의 세션으로 받은 편지함을 커서로 넘기며 방금 보낸 편지의 ID 를 찾음 (편지함은 본인만 조회 가능)
+    private Long findLetterId(VirtualUser receiver) throws InterruptedException {
+        Long cursor = null;
+        do {
+            String path = "/Letter/inbox?size=" + INBOX_PAGE_SIZE + (cursor == null ? "" : "&cursor=" + cursor);
+            HttpResponse<String> response = send(request(path).header("Cookie", receiver.sessionCookie).GET(), false);
+            if (!ok("letter.inbox", response)) {
+                return null;
+            }
+
+            JsonNode page = readTree(response.body());
+            for (JsonNode letter : page.path("letters")) {
+                if (letter.path("senderId").asLong() == userId) {
+                    return letter.path("letterId").asLong();
+                }
+            }
+            cursor = page.path("hasNext").asBoolean() ? page.path("nextCursor").asLong() : null;
+        } while (cursor != null);
+
+        fail("letter.inbox");
+        return null;
+    }
+
+    private void deleteLetter(Long letterId) throws InterruptedException {
+        ok("letter.delete", send(request("/Letter/" + letterId).DELETE(), true));
+    }
+
+    // 자기 자신을 제외한 등록된 사용자 중 한 명 (한 번에 한 통만 보내므로 (보내는 사람, 받는 사람) 쌍이 겹치지 않음)
+    private VirtualUser pickReceiver() {
+        int size = registeredUsers.size();
+        if (size < 2) {
+            return null;
+        }
+        VirtualUser receiver;
+        do {
+            receiver = registeredUsers.get(ThreadLocalRandom.current().nextInt(size));
+        } while (receiver == this);
+        return receiver;
+    }
+
+    // 짧은 편지와 압축 대상이 되는 긴 편지를 섞어서 작성
+    private String content() {
+        String sentence = "가상 사용자 " + number + " 이(가) 보내는 편지입니다. ";
+        return ThreadLocalRandom.current().nextInt(4) == 0 ? sentence.repeat(30) : sentence;
+    }
+
+    // 요청을 보내고 응답 시간을 lastElapsedNanos 에 남김 (전송 자체가 실패하면 null)
+    private HttpResponse<String> send(HttpRequest.Builder builder, boolean withSession) throws InterruptedException {
+        if (withSession && sessionCookie != null) {
+            builder.header("Cookie", sessionCookie);
+        }
+
+        long start = System.nanoTime();
+        try {
+            return client.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            return null;
+        } finally {
+            lastElapsedNanos = System.nanoTime() - start;
+        }
+    }
+
+    // 2xx 면 응답 시간을, 아니면 실패를 기록
+    private boolean ok(String operation, HttpResponse<String> response) {
+        if (response == null || response.statusCode() / 100 != 2) {
+            return fail(operation);
+        }
+        recorder.success(operation, lastElapsedNanos);
+        return true;
+    }
+
+    private boolean fail(String operation) {
+        recorder.error(operation);
+        return false;
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path));
+    }
+
+    private HttpRequest.Builder jsonRequest(String path) {
+        return request(path).header("Content-Type", "application/json");
+    }
+
+    private static HttpRequest.BodyPublisher body(String json) {
+        return HttpRequest.BodyPublishers.ofString(json);
+    }
+
+    private static JsonNode readTree(String json) {
+        try {
+            return objectMapper.readTree(json);
+        } catch (IOException e) {
+            throw new IllegalStateException("응답 JSON 파싱 실패: " + json, e);
+        }
+    }
+}
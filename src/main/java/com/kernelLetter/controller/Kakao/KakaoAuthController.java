@@ -1,11 +1,16 @@
 package com.kernelLetter.controller.Kakao;
 
+import com.kernelLetter.dto.AuthTokenDto;
 import com.kernelLetter.dto.KakaoUserInfoDTO;
 import com.kernelLetter.dto.LoginResultDTO;
 import com.kernelLetter.dto.SessionUser;
 import com.kernelLetter.dto.UserRegisterDTO;
+import com.kernelLetter.global.security.JwtTokenProvider;
 import com.kernelLetter.service.KakaoAuthService;
+import com.kernelLetter.service.TokenAuthService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.view.RedirectView;
@@ -18,6 +23,9 @@ public class KakaoAuthController {
 
     private final KakaoAuthService kakaoAuthService;
 
+    // 토큰 인증 모드(auth.mode=token)에서만 존재
+    private final ObjectProvider<TokenAuthService> tokenAuthService;
+
     /**
      * 카카오 로그인 콜백 엔드포인트
      *
@@ -42,11 +50,19 @@ public class KakaoAuthController {
         LoginResultDTO result = kakaoAuthService.processLogin(kakaoUserInfo);
 
         // 4. 첫 로그인이면 추가 정보 입력 페이지로, 아니면 메인 페이지로 리다이렉트
-        if (result.isFirstLogin()) {
-            return new RedirectView("http://localhost:5173/register");
-        } else {
-            return new RedirectView("http://localhost:5173/");
+        String redirectUrl = result.isFirstLogin() ? "http://localhost:5173/register" : "http://localhost:5173/";
+
+        // 토큰 모드: 발급한 토큰을 URL fragment 로 전달 (서버 로그, Referer 에 남지 않음)
+        // 첫 로그인이면 추가 정보 등록에만 쓸 수 있는 등록용 token 만 전달
+        TokenAuthService tokenAuth = tokenAuthService.getIfAvailable();
+        if (tokenAuth != null && result.isFirstLogin()) {
+            redirectUrl += "#registrationToken=" + tokenAuth.issueRegistrationToken(kakaoUserInfo.getKakaoId());
+        } else if (tokenAuth != null) {
+            AuthTokenDto tokens = tokenAuth.issueTokens(kakaoUserInfo.getKakaoId());
+            redirectUrl += "#accessToken=" + tokens.getAccessToken() + "&refreshToken=" + tokens.getRefreshToken();
         }
+
+        return new RedirectView(redirectUrl);
     }
 
     /**
@@ -63,6 +79,16 @@ public class KakaoAuthController {
         // 추가 정보 등록 및 세션 생성
         kakaoAuthService.registerAdditionalInfo(registerDTO.getName(), registerDTO.getEmail());
 
+        // 토큰 모드: 이름, 이메일이 반영된 토큰을 헤더로 다시 발급
+        TokenAuthService tokenAuth = tokenAuthService.getIfAvailable();
+        if (tokenAuth != null) {
+            AuthTokenDto tokens = tokenAuth.issueTokens(kakaoAuthService.getRegisteringKakaoId());
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.AUTHORIZATION, JwtTokenProvider.BEARER_PREFIX + tokens.getAccessToken())
+                    .header(JwtTokenProvider.REFRESH_TOKEN_HEADER, tokens.getRefreshToken())
+                    .body("등록이 완료되었습니다.");
+        }
+
         return ResponseEntity.ok("등록이 완료되었습니다.");
     }
 
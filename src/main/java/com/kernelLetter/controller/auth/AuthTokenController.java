@@ -0,0 +1,41 @@
+package com.kernelLetter.controller.auth;
+
+import com.kernelLetter.dto.AuthTokenDto;
+import com.kernelLetter.global.error.ErrorCode;
+import com.kernelLetter.global.error.exception.ControllerException;
+import com.kernelLetter.global.security.JwtTokenProvider;
+import com.kernelLetter.service.TokenAuthService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+// 토큰 인증 모드(auth.mode=token) 전용 API
+@RestController
+@ConditionalOnProperty(name = "auth.mode", havingValue = "token")
+@RequiredArgsConstructor
+public class AuthTokenController {
+
+    private final TokenAuthService tokenAuthService;
+
+    /**
+     * 토큰 재발급
+     *
+     * access token 이 만료되면 refresh token 으로 새 토큰을 발급
+     *
+     * @param refreshToken Refresh-Token 헤더
+     * @return 새 access / refresh token
+     */
+    @PostMapping("/api/auth/refresh")
+    public ResponseEntity<AuthTokenDto> refresh(
+            @RequestHeader(name = JwtTokenProvider.REFRESH_TOKEN_HEADER, required = false) String refreshToken) {
+
+        if (refreshToken == null || refreshToken.isBlank()) {
+            throw new ControllerException(ErrorCode.REFRESH_TOKEN_NOT_FOUND);
+        }
+
+        return ResponseEntity.ok(tokenAuthService.refresh(refreshToken));
+    }
+}
@@ -1,42 +1,109 @@
 package com.kernelLetter.controller.letter;
 
+import com.kernelLetter.dto.LetterBatchResultDto;
+import com.kernelLetter.dto.LetterDetailDto;
+import com.kernelLetter.dto.LetterInboxPageDto;
 import com.kernelLetter.dto.LetterPatchDto;
 import com.kernelLetter.dto.LetterSendDto;
+import com.kernelLetter.dto.SessionUser;
+import com.kernelLetter.global.error.ErrorCode;
+import com.kernelLetter.global.error.exception.ControllerException;
+import com.kernelLetter.service.IdempotencyService;
+import com.kernelLetter.service.KakaoAuthService;
+import com.kernelLetter.service.LetterDraftBuffer;
 import com.kernelLetter.service.LetterService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/Letter")
 @RequiredArgsConstructor
 public class LetterController {
     private final LetterService letterService;
+    private final KakaoAuthService kakaoAuthService;
+    private final LetterDraftBuffer letterDraftBuffer;
+    private final IdempotencyService idempotencyService;
 
     // 편지 작성하기
+    // Idempotency-Key 헤더를 보내면 같은 키의 재시도는 작성하지 않고 처음 응답을 그대로 반환 (Idempotent-Replayed: true)
+    // 키는 로그인한 사용자별로 관리하므로 헤더를 보내려면 로그인 필요
     @PostMapping
-    public void sendLetter(@RequestBody LetterSendDto dto) {
-        letterService.sendLetter(dto);
+    public ResponseEntity<Void> sendLetter(
+            @RequestHeader(name = IdempotencyService.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @RequestBody LetterSendDto dto) {
+        if (idempotencyKey == null) {
+            letterService.sendLetter(dto);
+            return ResponseEntity.ok().build();
+        }
+
+        if (idempotencyService.sendLetterOnce(currentUserId(), idempotencyKey, dto)) {
+            return ResponseEntity.ok().header(IdempotencyService.REPLAYED_HEADER, "true").build();
+        }
+        return ResponseEntity.ok().build();
+    }
+
+    // 편지 여러 통 한 번에 작성하기 (편지별 결과 반환)
+    @PostMapping("/batch")
+    public ResponseEntity<List<LetterBatchResultDto>> sendLetters(@RequestBody List<LetterSendDto> dtos) {
+        return ResponseEntity.ok(letterService.sendLetters(dtos));
     }
 
-    // 편지 수정하기
+    // 편지 수정하기 (대기 중인 자동 저장 초안은 버리고 바로 저장)
     @PatchMapping("/{receiverId}")
     public ResponseEntity<String> update(@PathVariable Long receiverId,
                                          @RequestBody LetterPatchDto dto) {
-        letterService.patch(receiverId,dto);
+        letterDraftBuffer.save(receiverId, dto);
 
         return ResponseEntity.ok("수정이 완료되었습니다.");
     }
 
-    // 편지 삭제하기
+    // 편지 자동 저장하기 (마지막 초안만 모아서 주기적으로 DB 에 반영)
+    @PatchMapping("/{receiverId}/draft")
+    public ResponseEntity<String> saveDraft(@PathVariable Long receiverId,
+                                            @RequestBody LetterPatchDto dto) {
+        letterDraftBuffer.saveDraft(receiverId, dto);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body("임시 저장되었습니다.");
+    }
+
+    // 편지 삭제하기 (내가 보낸 편지만)
     @DeleteMapping("/{letterId}")
     public ResponseEntity<String> delete(@PathVariable Long letterId) {
-        letterService.delete(letterId);
+        letterService.delete(letterId, currentUserId());
 
         return ResponseEntity.ok("삭제가 완료되었습니다.");
     }
 
-    // 편지 조회하기
+    // 편지 여러 통 한 번에 삭제하기 (DELETE /Letter?ids=1,2,3, 내가 보낸 편지만)
+    @DeleteMapping
+    public ResponseEntity<String> deleteAll(@RequestParam("ids") List<Long> letterIds) {
+        int deleted = letterService.deleteAll(letterIds, currentUserId());
 
+        return ResponseEntity.ok(deleted + "통의 편지가 삭제되었습니다.");
+    }
+
+    // 받은 편지함 조회하기 (내가 받은 편지만, cursor 는 이전 응답의 nextCursor)
+    @GetMapping("/inbox")
+    public ResponseEntity<LetterInboxPageDto> inbox(@RequestParam(required = false) Long cursor,
+                                                    @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(letterService.findInbox(currentUserId(), cursor, size));
+    }
 
+    // 편지 한 통 열어보기 (내가 보내거나 받은 편지만)
+    @GetMapping("/{letterId}")
+    public ResponseEntity<LetterDetailDto> read(@PathVariable Long letterId) {
+        return ResponseEntity.ok(letterService.findLetter(letterId, currentUserId()));
+    }
+
+    private Long currentUserId() {
+        SessionUser currentUser = kakaoAuthService.getCurrentUser();
+        if (currentUser == null) {
+            throw new ControllerException(ErrorCode.NOT_LOGGED_IN);
+        }
+        return currentUser.getId();
+    }
 }
@@ -0,0 +1,145 @@
+package com.kernelLetter.domain.converter;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+// 편지 본문을 DB 에 저장할 때 일정 크기 이상이면 Deflate 로 압축하는 컨버터
+//
+// 저장 형식 (첫 바이트가 버전 헤더)
+// - 0x00 + UTF-8 원문
+// - 0x01 + 원문 길이(int) + Deflate 압축 데이터
+// - 그 외: 헤더 도입 전에 저장된 UTF-8 원문 (LetterBodyCompressionBackfill 로 변환)
+@Converter
+public class LetterContentConverter implements AttributeConverter<String, byte[]> {
+
+    // 이 크기(UTF-8 바이트) 미만인 본문은 압축 이득보다 비용이 커서 원문 그대로 저장
+    public static final int COMPRESSION_THRESHOLD = 512;
+
+    private static final byte RAW = 0x00;
+    private static final byte DEFLATE = 0x01;
+    private static final int DEFLATE_HEADER_LENGTH = 1 + Integer.BYTES;
+
+    @Override
+    public byte[] convertToDatabaseColumn(String content) {
+        return content == null ? null : encode(content);
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] stored) {
+        return stored == null ? null : decode(stored);
+    }
+
+
+    // 본문을 저장 형식으로 변환
+    // @param content 편지 본문
+    // @return 헤더가 붙은 저장용 바이트 배열
+    public static byte[] encode(String content) {
+        byte[] utf8 = content.getBytes(StandardCharsets.UTF_8);
+
+        if (utf8.length >= COMPRESSION_THRESHOLD) {
+            byte[] compressed = deflate(utf8);
+
+            // 압축해도 작아지지 않으면 원문으로 저장
+            if (compressed.length + DEFLATE_HEADER_LENGTH < utf8.length) {
+                return ByteBuffer.allocate(DEFLATE_HEADER_LENGTH + compressed.length)
+                        .put(DEFLATE)
+                        .putInt(utf8.length)
+                        .put(compressed)
+                        .array();
+            }
+        }
+
+        byte[] stored = new byte[utf8.length + 1];
+        stored[0] = RAW;
+        System.arraycopy(utf8, 0, stored, 1, utf8.length);
+        return stored;
+    }
+
+
+    // 저장 형식을 본문으로 복원
+    // @param stored DB 에 저장된 바이트 배열
+    // @return 편지 본문
+    public static String decode(byte[] stored) {
+        if (stored.length == 0) {
+            return "";
+        }
+
+        return switch (stored[0]) {
+            case RAW -> new String(stored, 1, stored.length - 1, StandardCharsets.UTF_8);
+            case DEFLATE -> {
+                int originalLength = ByteBuffer.wrap(stored, 1, Integer.BYTES).getInt();
+                byte[] utf8 = inflate(stored, DEFLATE_HEADER_LENGTH, originalLength);
+                yield new String(utf8, StandardCharsets.UTF_8);
+            }
+            default -> new String(stored, StandardCharsets.UTF_8);
+        };
+    }
+
+
+    // 현재 저장 형식으로 다시 써야 하는 데이터인지 확인
+    // (헤더가 없는 기존 데이터, 또는 압축 대상인데 원문으로 저장된 데이터)
+    public static boolean needsRewrite(byte[] stored) {
+        if (stored.length == 0) {
+            return false;
+        }
+        if (stored[0] == DEFLATE) {
+            return false;
+        }
+        if (stored[0] == RAW) {
+            return stored.length - 1 >= COMPRESSION_THRESHOLD
+                    && encode(decode(stored))[0] == DEFLATE;
+        }
+        return true;
+    }
+
+    private static byte[] deflate(byte[] input) {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length / 2);
+            byte[] buffer = new byte[1024];
+            while (!deflater.finished()) {
+                int length = deflater.deflate(buffer);
+                out.write(buffer, 0, length);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] stored, int offset, int originalLength) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(stored, offset, stored.length - offset);
+
+            byte[] output = new byte[originalLength];
+            int written = 0;
+            while (written < originalLength && !inflater.finished()) {
+                int length = inflater.inflate(output, written, originalLength - written);
+                if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                written += length;
+            }
+
+            if (written != originalLength) {
+                throw new IllegalStateException("편지 본문 압축 해제 실패: 데이터 길이가 일치하지 않습니다.");
+            }
+            return output;
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("편지 본문 압축 해제 실패", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.kernelLetter.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 처리를 마친 Idempotency-Key (IdempotencyService)
+// 로컬 캐시가 만료되거나 다른 서버로 재시도가 들어와도 같은 요청을 다시 처리하지 않도록 DB 에 보관
+// 키는 로그인한 사용자마다 따로 관리 (PK 는 IdempotencyKeyId)
+// 행은 IdempotencyKeyRepository.insert 로만 생성 (키가 이미 있으면 PK 위반으로 실패해야 하므로 merge 사용 안 함)
+@Entity
+@Table(name = "idempotency_key", indexes = @Index(name = "idx_idempotency_key_created_at", columnList = "created_at"))
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyKey {
+
+    public static final int MAX_KEY_LENGTH = 100;
+
+    // 기존 행은 보낸 사람을 알 수 없으므로 비우고 PK 변경 (보관 기간 동안의 재시도만 새 요청으로 처리됨)
+    // (DELETE FROM idempotency_key; ALTER TABLE idempotency_key ADD COLUMN sender_id BIGINT NOT NULL,
+    //  DROP PRIMARY KEY, ADD PRIMARY KEY (sender_id, idempotency_key))
+    @EmbeddedId
+    private IdempotencyKeyId id;
+
+    // 처음 요청 본문의 SHA-256 (같은 키로 다른 요청을 보냈는지 확인)
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
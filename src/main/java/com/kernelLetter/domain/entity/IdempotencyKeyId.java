@@ -0,0 +1,28 @@
+package com.kernelLetter.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+// IdempotencyKey 의 PK (로그인한 사용자, 키)
+// 키는 로그인한 사용자마다 따로 관리 (다른 사용자가 같은 키를 써도 충돌하지 않고, 키 사용 여부도 드러나지 않음)
+// IdempotencyService 의 로컬 캐시 키로도 사용
+@Embeddable
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class IdempotencyKeyId implements Serializable {
+
+    @Column(name = "sender_id", nullable = false)
+    private Long senderId;
+
+    @Column(name = "idempotency_key", length = IdempotencyKey.MAX_KEY_LENGTH)
+    private String key;
+}
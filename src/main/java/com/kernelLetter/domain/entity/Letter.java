@@ -1,45 +1,52 @@
 package com.kernelLetter.domain.entity;
 
-import com.kernelLetter.dto.LetterSendDto;
-import com.kernelLetter.dto.LetterPatchDto;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+// 편지 본문은 letter_body 테이블(LetterBody)에 따로 저장
+// 목록, 존재 확인, 삭제 쿼리가 LOB 를 읽지 않도록 letter 행을 좁게 유지
 @Entity
-@Table(name= "letter")
+@Table(name= "letter",
+        uniqueConstraints = @UniqueConstraint(name = Letter.UK_SENDER_RECEIVER, columnNames = {"sender", "receiver"}),
+        indexes = @Index(name = "idx_letter_receiver_id", columnList = "receiver, id"))
 @Getter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Letter {
 
+    // 한 사용자에게는 편지를 한 통만 보낼 수 있음 (DB 유니크 제약으로 보장)
+    public static final String UK_SENDER_RECEIVER = "uk_letter_sender_receiver";
+
+    // 보낸 사람, 받는 사람이 실제 회원인지는 외래 키로 검증
+    public static final String FK_SENDER = "fk_letter_sender";
+    public static final String FK_RECEIVER = "fk_letter_receiver";
+
+    // IDENTITY 는 INSERT 배치를 막으므로 pooled 시퀀스로 ID 를 미리 할당
+    // (시퀀스를 지원하지 않는 MySQL 에서는 Hibernate 가 letter_seq 테이블로 대체)
+    // AUTO_INCREMENT 로 ID 를 발급하던 기존 DB 는 배포 전에 letter_seq 를 max(id) 이후로 맞춰야 함 (1부터 시작하면 PK 충돌)
+    // (CREATE TABLE IF NOT EXISTS letter_seq (next_val BIGINT);
+    //  DELETE FROM letter_seq; INSERT INTO letter_seq SELECT COALESCE(MAX(id), 0) + 50 FROM letter)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "letter_seq_generator")
+    @SequenceGenerator(name = "letter_seq_generator", sequenceName = "letter_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name= "sender", nullable = false)
+    @JoinColumn(name= "sender", nullable = false, foreignKey = @ForeignKey(name = FK_SENDER))
     private User sender;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "receiver", nullable = false)
+    @JoinColumn(name = "receiver", nullable = false, foreignKey = @ForeignKey(name = FK_RECEIVER))
     private User receiver;
 
-    @Lob
-    @Column(nullable = false)
-    private String content;
-
-    public static Letter from(User sender, User receiver, String content) {
+    public static Letter from(User sender, User receiver) {
         return Letter.builder()
                 .sender(sender)
                 .receiver(receiver)
-                .content(content)
                 .build();
     }
-    public void setContent(LetterPatchDto dto) {
-        this.content = dto.getContent();
-    }
 }
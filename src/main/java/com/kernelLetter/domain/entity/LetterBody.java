@@ -0,0 +1,53 @@
+package com.kernelLetter.domain.entity;
+
+import com.kernelLetter.domain.converter.LetterContentConverter;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+// 편지 본문 엔티티
+// letter 와 같은 ID 를 공유하며, 편지 한 통을 열어볼 때만 조회
+@Entity
+@Table(name = "letter_body")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LetterBody {
+
+    @Id
+    private Long id;
+
+    // 편지가 삭제되면 DB 에서 본문도 함께 삭제 (ON DELETE CASCADE)
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "letter_id", foreignKey = @ForeignKey(name = "fk_letter_body_letter"))
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Letter letter;
+
+    // 일정 크기 이상의 본문은 압축해서 저장 (LetterContentConverter)
+    @Lob
+    @Convert(converter = LetterContentConverter.class)
+    @Column(nullable = false)
+    private String content;
+
+    // 본문을 수정할 때마다 1씩 증가 (LetterBodyRepository.updateContent)
+    // 수정 요청에 기대 버전을 함께 보내면 그 사이 다른 수정이 있었는지 잠금 없이 확인 가능
+    // 기존 행은 0 으로 채움 (ALTER TABLE letter_body ADD COLUMN version BIGINT NOT NULL DEFAULT 0)
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
+    public static LetterBody of(Letter letter, String content) {
+        return LetterBody.builder()
+                .letter(letter)
+                .content(content)
+                .build();
+    }
+}
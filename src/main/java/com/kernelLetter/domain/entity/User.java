@@ -12,7 +12,7 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", uniqueConstraints = @UniqueConstraint(name = User.UK_KAKAO_ID, columnNames = "kakao_id"))
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @Builder
@@ -20,10 +20,14 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class User {
 
+    // 로그인마다 카카오 ID 로 조회하므로 유니크 인덱스
+    public static final String UK_KAKAO_ID = "uk_users_kakao_id";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @Column(name = "kakao_id")
     private String kakaoId;
     private String kakaoEmail;
 
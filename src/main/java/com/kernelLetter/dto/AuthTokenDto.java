@@ -0,0 +1,13 @@
+package com.kernelLetter.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 토큰 인증 모드에서 발급하는 access / refresh token
+@Getter
+@AllArgsConstructor
+public class AuthTokenDto {
+
+    private String accessToken;
+    private String refreshToken;
+}
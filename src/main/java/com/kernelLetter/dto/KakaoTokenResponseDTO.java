@@ -0,0 +1,17 @@
+package com.kernelLetter.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 카카오 토큰 발급 응답 중 사용하는 값만 담는 DTO
+// 나머지 필드(refresh_token, expires_in 등)는 파싱하지 않음
+@Getter
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class KakaoTokenResponseDTO {
+
+    @JsonProperty("access_token")
+    private String accessToken;
+}
@@ -0,0 +1,29 @@
+package com.kernelLetter.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 카카오 사용자 정보(/v2/user/me) 응답 중 사용하는 값만 담는 DTO
+// 프로필 등 나머지 필드는 파싱하지 않음
+@Getter
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class KakaoUserInfoResponseDTO {
+
+    @JsonProperty("id")
+    private Long id;
+
+    @JsonProperty("kakao_account")
+    private KakaoAccount kakaoAccount;
+
+    @Getter
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class KakaoAccount {
+
+        @JsonProperty("email")
+        private String email;
+    }
+}
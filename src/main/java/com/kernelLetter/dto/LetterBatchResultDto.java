@@ -0,0 +1,25 @@
+package com.kernelLetter.dto;
+
+import com.kernelLetter.global.error.ErrorCode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 편지 일괄 작성 시 편지별 처리 결과
+// 실패한 편지는 errorCode 로 사유 전달
+@Getter
+@AllArgsConstructor
+public class LetterBatchResultDto {
+
+    private Long senderId;
+    private Long receiverId;
+    private boolean sent;
+    private String errorCode;
+
+    public static LetterBatchResultDto sent(LetterSendDto dto) {
+        return new LetterBatchResultDto(dto.getSenderId(), dto.getReceiverId(), true, null);
+    }
+
+    public static LetterBatchResultDto rejected(LetterSendDto dto, ErrorCode errorCode) {
+        return new LetterBatchResultDto(dto.getSenderId(), dto.getReceiverId(), false, errorCode.getErrorCode());
+    }
+}
@@ -0,0 +1,19 @@
+package com.kernelLetter.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 편지 한 통을 열어볼 때 사용하는 DTO (본문 포함)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LetterDetailDto {
+    private Long letterId;
+    private Long senderId;
+    private Long receiverId;
+    private String content;
+
+    // 수정 요청(LetterPatchDto.version)에 그대로 보내는 현재 본문 버전
+    private Long version;
+}
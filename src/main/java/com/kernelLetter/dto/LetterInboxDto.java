@@ -0,0 +1,16 @@
+package com.kernelLetter.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 받은 편지함 목록의 한 줄을 담는 DTO
+// 편지 본문(content)은 포함하지 않고 목록에 필요한 값만 조회
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LetterInboxDto {
+    private Long letterId;
+    private Long senderId;
+    private String senderName;
+}
@@ -0,0 +1,30 @@
+package com.kernelLetter.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 받은 편지함 커서 페이지 응답 DTO
+// 다음 페이지는 nextCursor 를 cursor 파라미터로 넘겨 조회
+@Getter
+@AllArgsConstructor
+public class LetterInboxPageDto {
+
+    private List<LetterInboxDto> letters;
+    private Long nextCursor;
+    private boolean hasNext;
+
+
+    // size + 1 건을 조회한 결과로 페이지 생성
+    // @param fetched 조회 결과 (최대 size + 1 건)
+    // @param size 요청한 페이지 크기
+    // @return 커서 페이지 응답 객체
+    public static LetterInboxPageDto of(List<LetterInboxDto> fetched, int size) {
+        boolean hasNext = fetched.size() > size;
+        List<LetterInboxDto> letters = hasNext ? fetched.subList(0, size) : fetched;
+        Long nextCursor = hasNext ? letters.get(letters.size() - 1).getLetterId() : null;
+
+        return new LetterInboxPageDto(letters, nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,14 @@
+package com.kernelLetter.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+// (보낸 사람, 받는 사람) 쌍 - 편지 한 통을 식별하는 키
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor
+public class LetterPairDto {
+    private Long senderId;
+    private Long receiverId;
+}
@@ -12,4 +12,12 @@ import lombok.NoArgsConstructor;
 public class LetterPatchDto {
     private Long senderId;
     private String content;
+
+    // 편지를 열었을 때 받은 본문 버전 (LetterDetailDto.version)
+    // 지정하면 그 사이 다른 수정이 있었을 때 LETTER_VERSION_CONFLICT, 생략하면 마지막 수정이 반영됨
+    private Long version;
+
+    public LetterPatchDto(Long senderId, String content) {
+        this(senderId, content, null);
+    }
 }
@@ -30,7 +30,14 @@ public class LoginResultDTO {
     // @param user DB 에서 조회한 User 엔티티
     // @return 로그인 성공 응답 객체
     public static LoginResultDTO normalLogin(User user) {
+        return normalLogin(SessionUser.fromUser(user));
+    }
+
+
+    // @param user 세션에 저장할 사용자 정보
+    // @return 로그인 성공 응답 객체
+    public static LoginResultDTO normalLogin(SessionUser user) {
         return new LoginResultDTO(
-                false,"로그인 성공", SessionUser.fromUser(user));
+                false,"로그인 성공", user);
     }
 }
\ No newline at end of file
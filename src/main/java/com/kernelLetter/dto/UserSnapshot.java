@@ -0,0 +1,35 @@
+package com.kernelLetter.dto;
+
+import com.kernelLetter.domain.entity.User;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 로그인 처리에 필요한 사용자 정보만 담은 불변 객체
+// 엔티티 대신 캐시에 보관 (영속성 컨텍스트와 무관하게 여러 요청이 공유)
+@Getter
+@AllArgsConstructor
+public class UserSnapshot {
+
+    private final Long id;
+    private final String kakaoId;
+    private final String kakaoEmail;
+    private final String name;
+    private final String email;
+    private final boolean firstLogin;
+
+    public static UserSnapshot from(User user) {
+        return new UserSnapshot(
+                user.getId(), user.getKakaoId(), user.getKakaoEmail(),
+                user.getName(), user.getEmail(), user.isFirstLogin());
+    }
+
+    public SessionUser toSessionUser() {
+        return SessionUser.builder()
+                .id(id)
+                .kakaoId(kakaoId)
+                .kakaoEmail(kakaoEmail)
+                .name(name)
+                .email(email)
+                .build();
+    }
+}
@@ -0,0 +1,74 @@
+package com.kernelLetter.global.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kernelLetter.global.util.Sha256;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+import java.util.List;
+
+// 로컬(프로세스 내) 캐시 설정
+// 캐시마다 크기 / 만료 시간을 따로 두고, 적중률 등 통계는 actuator 메트릭(cache.gets, cache.evictions ...)으로 노출
+// 캐시를 트랜잭션, 서킷 브레이커보다 바깥에 두어 캐시 적중 시에는 DB 커넥션이나 벌크헤드 자리를 쓰지 않음
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+
+    // 카카오 ID -> 사용자 정보 (UserService.findSnapshotByKakaoId)
+    public static final String USER_SNAPSHOT_BY_KAKAO_ID = "userSnapshotByKakaoId";
+
+    // 카카오 access token 해시 -> 카카오 사용자 정보 (KakaoUserInfoProvider.getKakaoUserInfo)
+    public static final String KAKAO_USER_INFO = "kakaoUserInfo";
+
+    // (로그인한 사용자, Idempotency-Key) -> 처음 요청의 지문 (IdempotencyService)
+    public static final String IDEMPOTENCY_KEYS = "idempotencyKeys";
+
+    // @param userSnapshotTtl 사용자 정보 캐시 만료 시간 (다른 서버에서 정보가 바뀌어도 이 시간 안에 반영)
+    // @param userSnapshotMaxSize 사용자 정보 캐시 최대 개수
+    // @param kakaoUserInfoTtl 카카오 사용자 정보 캐시 만료 시간
+    // @param kakaoUserInfoMaxSize 카카오 사용자 정보 캐시 최대 개수
+    // @param idempotencyKeyTtl Idempotency-Key 캐시 만료 시간 (만료 후에는 DB 에서 확인)
+    // @param idempotencyKeyMaxSize Idempotency-Key 캐시 최대 개수
+    @Bean
+    public CacheManager cacheManager(@Value("${cache.user-snapshot.ttl:10m}") Duration userSnapshotTtl,
+                                     @Value("${cache.user-snapshot.max-size:10000}") long userSnapshotMaxSize,
+                                     @Value("${cache.kakao-user-info.ttl:1m}") Duration kakaoUserInfoTtl,
+                                     @Value("${cache.kakao-user-info.max-size:10000}") long kakaoUserInfoMaxSize,
+                                     @Value("${cache.idempotency-key.ttl:1h}") Duration idempotencyKeyTtl,
+                                     @Value("${cache.idempotency-key.max-size:100000}") long idempotencyKeyMaxSize) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+
+        // 등록한 캐시만 사용 (이름 오타로 제한 없는 캐시가 생기지 않도록)
+        cacheManager.setCacheNames(List.of());
+        cacheManager.registerCustomCache(USER_SNAPSHOT_BY_KAKAO_ID, Caffeine.newBuilder()
+                .maximumSize(userSnapshotMaxSize)
+                .expireAfterWrite(userSnapshotTtl)
+                .recordStats()
+                .build());
+        cacheManager.registerCustomCache(KAKAO_USER_INFO, Caffeine.newBuilder()
+                .maximumSize(kakaoUserInfoMaxSize)
+                .expireAfterWrite(kakaoUserInfoTtl)
+                .recordStats()
+                .build());
+        cacheManager.registerCustomCache(IDEMPOTENCY_KEYS, Caffeine.newBuilder()
+                .maximumSize(idempotencyKeyMaxSize)
+                .expireAfterWrite(idempotencyKeyTtl)
+                .recordStats()
+                .build());
+
+        return cacheManager;
+    }
+
+    // access token 을 그대로 키로 쓰지 않고 SHA-256 해시로 변환 (메모리, 힙 덤프에 토큰이 남지 않도록)
+    @Bean
+    public KeyGenerator accessTokenHashKeyGenerator() {
+        return (target, method, params) -> Sha256.hex((String) params[0]);
+    }
+}
@@ -0,0 +1,37 @@
+package com.kernelLetter.global.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+// 운영(prod) 환경 커넥션 풀 설정
+// 풀 크기는 서버 코어 수로 계산하고 (DataSourcePoolProperties), 나머지 Hikari 설정과
+// MySQL 드라이버 옵션(prepared statement 캐시, rewriteBatchedStatements)은 application-prod.yml 에서 지정
+@Configuration
+@Profile("prod")
+@EnableConfigurationProperties(DataSourcePoolProperties.class)
+public class DataSourceConfig {
+
+    // 코어 수로 계산한 풀 크기를 먼저 넣고, spring.datasource.hikari.* 를 그 위에 바인딩
+    // (spring.datasource.hikari.maximum-pool-size 를 직접 지정하면 계산값보다 우선)
+    // @param dataSourceProperties spring.datasource.* (url, username, password ...)
+    // @param poolProperties 풀 크기 계산 설정
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties dataSourceProperties,
+                                       DataSourcePoolProperties poolProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+
+        int maximumPoolSize = poolProperties.maximumPoolSize(Runtime.getRuntime().availableProcessors());
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        dataSource.setMinimumIdle(poolProperties.minimumIdle(maximumPoolSize));
+
+        return dataSource;
+    }
+}
@@ -0,0 +1,39 @@
+package com.kernelLetter.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+// 커넥션 풀 크기 설정 (datasource.pool.*)
+// 풀 크기는 HikariCP 권장 공식 (코어 수 * connectionsPerCore + effectiveSpindleCount) 으로 계산
+// 요청 처리가 가상 스레드라 동시 요청 수만큼 풀을 키우면 DB 쪽 경합만 늘어나므로 코어 수 기준으로 작게 유지
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "datasource.pool")
+public class DataSourcePoolProperties {
+
+    // 코어당 커넥션 수
+    private int connectionsPerCore = 2;
+
+    // 동시에 I/O 를 처리할 수 있는 디스크 수 (SSD 는 1)
+    private int effectiveSpindleCount = 1;
+
+    // 계산된 풀 크기의 상한 (서버 대수 * 풀 크기가 MySQL max_connections 를 넘지 않도록), 0 이면 제한 없음
+    private int maxPoolSizeLimit = 0;
+
+    // 유휴 상태로 유지할 최소 커넥션 수, 0 이면 풀 크기와 같게 (고정 크기 풀)
+    private int minimumIdle = 0;
+
+    // @param availableProcessors 사용 가능한 코어 수
+    // @return 커넥션 풀 최대 크기
+    public int maximumPoolSize(int availableProcessors) {
+        int size = availableProcessors * connectionsPerCore + effectiveSpindleCount;
+        return maxPoolSizeLimit > 0 ? Math.min(size, maxPoolSizeLimit) : size;
+    }
+
+    // @param maximumPoolSize 커넥션 풀 최대 크기
+    // @return 최소 유휴 커넥션 수
+    public int minimumIdle(int maximumPoolSize) {
+        return minimumIdle > 0 ? Math.min(minimumIdle, maximumPoolSize) : maximumPoolSize;
+    }
+}
@@ -0,0 +1,38 @@
+package com.kernelLetter.global.config;
+
+import com.kernelLetter.global.session.OffHeapSessionRepository;
+import com.kernelLetter.global.session.SessionValueSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.session.config.annotation.web.http.EnableSpringHttpSession;
+
+import java.time.Duration;
+
+// 세션을 힙 밖 메모리에 직렬화해서 저장 (session.store=local)
+// 서버 한 대로 운영할 때 Redis 없이 세션 메모리 사용량만 줄이는 용도
+@Configuration
+@ConditionalOnProperty(name = "session.store", havingValue = "local")
+@EnableSpringHttpSession
+public class LocalSessionConfig {
+
+    private final OffHeapSessionRepository sessionRepository;
+
+    // @param timeout 세션 만료 시간 (내장 톰캣 세션과 같은 설정 사용)
+    public LocalSessionConfig(@Value("${server.servlet.session.timeout:30m}") Duration timeout) {
+        this.sessionRepository = new OffHeapSessionRepository(new SessionValueSerializer(), timeout);
+    }
+
+    @Bean
+    public OffHeapSessionRepository sessionRepository() {
+        return sessionRepository;
+    }
+
+    // 만료된 세션 주기적으로 정리
+    @Scheduled(fixedDelayString = "${session.cleanup-interval:1m}")
+    public void cleanUpExpiredSessions() {
+        sessionRepository.cleanUpExpiredSessions();
+    }
+}
@@ -0,0 +1,35 @@
+package com.kernelLetter.global.config;
+
+import com.kernelLetter.global.session.SessionValueSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.session.config.SessionRepositoryCustomizer;
+import org.springframework.session.data.redis.RedisSessionRepository;
+import org.springframework.session.data.redis.config.annotation.web.http.EnableRedisHttpSession;
+
+import java.time.Duration;
+
+// 세션을 Redis 에 저장 (session.store=redis)
+// 여러 서버가 세션을 공유하므로 로드 밸런서에서 sticky session 없이 분산 가능
+// 연결 정보는 spring.data.redis.* 로 설정
+@Configuration
+@ConditionalOnProperty(name = "session.store", havingValue = "redis")
+@EnableRedisHttpSession(redisNamespace = "kernelLetter:session")
+public class RedisSessionConfig {
+
+    // 세션 속성 값 직렬화기 (빈 이름으로 Spring Session 이 찾아서 사용)
+    @Bean
+    public RedisSerializer<Object> springSessionDefaultRedisSerializer() {
+        return new SessionValueSerializer();
+    }
+
+    // 세션 만료 시간은 내장 톰캣 세션과 같은 설정(server.servlet.session.timeout)을 따름
+    @Bean
+    public SessionRepositoryCustomizer<RedisSessionRepository> sessionTimeoutCustomizer(
+            @Value("${server.servlet.session.timeout:30m}") Duration timeout) {
+        return sessionRepository -> sessionRepository.setDefaultMaxInactiveInterval(timeout);
+    }
+}
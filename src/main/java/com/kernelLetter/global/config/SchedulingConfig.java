@@ -0,0 +1,11 @@
+package com.kernelLetter.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// @Scheduled 작업 활성화 (편지 초안 flush, 로컬 세션 만료 정리)
+// spring.threads.virtual.enabled=true 이므로 스케줄러도 가상 스레드에서 실행
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,21 @@
+package com.kernelLetter.global.error;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+
+// 에러 코드별 발생 횟수 (api.errors{code, status})
+// ExceptionAdvice 를 거치지 않고 필터에서 직접 쓰는 에러 응답(JwtAuthenticationFilter 401, RateLimitFilter 429)도 같은 카운터로 집계
+@Component
+@RequiredArgsConstructor
+public class ApiErrorMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    public void count(String errorCode, HttpStatusCode status) {
+        meterRegistry.counter("api.errors",
+                "code", errorCode,
+                "status", String.valueOf(status.value())).increment();
+    }
+}
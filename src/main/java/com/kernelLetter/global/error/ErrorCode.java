@@ -38,7 +38,17 @@ public enum ErrorCode {
 
     // 편지
     LETTER_ALREADY_EXISTS(HttpStatus.BAD_REQUEST, "L-002", "이미 해당 사용자에게 편지를 보냈습니다"),
-    LETTER_NOT_EXISTS(HttpStatus.BAD_REQUEST, "L-003", "해당 편지가 존재하지 않습니다");
+    LETTER_NOT_EXISTS(HttpStatus.BAD_REQUEST, "L-003", "해당 편지가 존재하지 않습니다"),
+    LETTER_BATCH_TOO_LARGE(HttpStatus.BAD_REQUEST, "L-004", "한 번에 보낼 수 있는 편지 수를 초과했습니다"),
+    LETTER_VERSION_CONFLICT(HttpStatus.CONFLICT, "L-005", "다른 곳에서 먼저 수정된 편지입니다. 편지를 다시 불러와주세요"),
+
+    // 요청
+    INVALID_IDEMPOTENCY_KEY(HttpStatus.BAD_REQUEST, "R-001", "Idempotency-Key 는 1~100자여야 합니다."),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "R-002", "같은 Idempotency-Key 로 다른 요청을 보냈습니다."),
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "R-003", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+
+    // 외부 연동
+    KAKAO_API_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "K-001", "카카오 서버와 통신할 수 없습니다. 잠시 후 다시 시도해주세요.");
   
     private final HttpStatus httpStatus;
     private final String errorCode;
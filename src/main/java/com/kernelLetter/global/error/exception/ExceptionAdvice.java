@@ -1,21 +1,28 @@
 package com.kernelLetter.global.error.exception;
 
+import com.kernelLetter.global.error.ApiErrorMetrics;
 import com.kernelLetter.global.error.ErrorResult;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 @Slf4j
 @RestControllerAdvice(basePackages = "")
+@RequiredArgsConstructor
 public class ExceptionAdvice {
 
+    private final ApiErrorMetrics apiErrorMetrics;
+
     // Business Exception 예외처리
     @ExceptionHandler(BusinessException.class)
     public ResponseEntity<ErrorResult> handleBusinessException(BusinessException e) {
         log.info("business exception: {}", e.getMessage());
         ErrorResult errorResult = ErrorResult.of(e.getErrorCode().getErrorCode(), e.getMessage());
+        countError(errorResult, e.getErrorCode().getHttpStatus());
         return ResponseEntity.status(e.getErrorCode().getHttpStatus()).body(errorResult);
     }
 
@@ -24,6 +31,7 @@ public class ExceptionAdvice {
     public ResponseEntity<ErrorResult> handleControllerException(ControllerException e) {
         log.info("controller error handler");
         ErrorResult errorResult = ErrorResult.of(e.getErrorCode().getErrorCode(), e.getMessage());
+        countError(errorResult, e.getErrorCode().getHttpStatus());
         return ResponseEntity.status(e.getErrorCode().getHttpStatus()).body(errorResult);
     }
 
@@ -32,6 +40,11 @@ public class ExceptionAdvice {
     public ResponseEntity<ErrorResult> runtimeExceptionHandler(RuntimeException e) {
         log.info("runtime error handler");
         ErrorResult errorResult = ErrorResult.of("E-000", e.getMessage() + "\n 서버 에러. 담당자에게 문의 바랍니다.");
+        countError(errorResult, HttpStatus.INTERNAL_SERVER_ERROR);
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResult);
     }
-}
\ No newline at end of file
+
+    private void countError(ErrorResult errorResult, HttpStatusCode status) {
+        apiErrorMetrics.count(errorResult.getErrorCode(), status);
+    }
+}
@@ -0,0 +1,73 @@
+package com.kernelLetter.global.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kernelLetter.global.error.ApiErrorMetrics;
+import com.kernelLetter.global.error.ErrorCode;
+import com.kernelLetter.global.error.ErrorResult;
+import com.kernelLetter.global.error.exception.BusinessException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+// 토큰 인증 모드에서 Authorization 헤더의 access token 을 검증하고 SecurityContext 에 사용자 정보 저장
+// 첫 로그인 사용자의 등록용 token 은 RegistrationPrincipal 로 저장 (추가 정보 등록 외에는 비로그인과 같음)
+// 헤더가 없으면 비로그인 요청으로 그대로 통과 (로그인 필요 여부는 각 API 에서 판단)
+@RequiredArgsConstructor
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final ObjectMapper objectMapper;
+    private final ApiErrorMetrics apiErrorMetrics;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || authorization.isBlank()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        try {
+            if (!authorization.startsWith(JwtTokenProvider.BEARER_PREFIX)) {
+                throw new BusinessException(ErrorCode.NOT_VALID_BEARER_GRANT_TYPE);
+            }
+
+            String token = authorization.substring(JwtTokenProvider.BEARER_PREFIX.length());
+            Object principal = jwtTokenProvider.parsePrincipal(token);
+
+            SecurityContext context = SecurityContextHolder.createEmptyContext();
+            context.setAuthentication(new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+            SecurityContextHolder.setContext(context);
+        } catch (BusinessException e) {
+            writeError(response, e.getErrorCode());
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    // 필터에서 발생한 예외는 ExceptionAdvice 를 거치지 않으므로 같은 형식으로 직접 응답하고 에러 카운터도 직접 기록
+    private void writeError(HttpServletResponse response, ErrorCode errorCode) throws IOException {
+        ErrorResult errorResult = ErrorResult.of(errorCode.getErrorCode(), errorCode.getMessage());
+        apiErrorMetrics.count(errorCode.getErrorCode(), errorCode.getHttpStatus());
+
+        response.setStatus(errorCode.getHttpStatus().value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getWriter(), errorResult);
+    }
+}
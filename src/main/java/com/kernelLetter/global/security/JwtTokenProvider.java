@@ -0,0 +1,169 @@
+package com.kernelLetter.global.security;
+
+import com.kernelLetter.dto.SessionUser;
+import com.kernelLetter.global.error.ErrorCode;
+import com.kernelLetter.global.error.exception.BusinessException;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+
+// 토큰 인증 모드(auth.mode=token)에서 access / refresh token 발급 및 검증
+// 서명 키와 파서는 시작할 때 한 번만 만들어 요청마다 재사용
+@Component
+@ConditionalOnProperty(name = "auth.mode", havingValue = "token")
+public class JwtTokenProvider {
+
+    public static final String BEARER_PREFIX = "Bearer ";
+    public static final String REFRESH_TOKEN_HEADER = "Refresh-Token";
+
+    private static final String TOKEN_TYPE = "token_type";
+    private static final String ACCESS = "access";
+    private static final String REFRESH = "refresh";
+    private static final String REGISTRATION = "registration";
+
+    private final SecretKey key;
+    private final JwtParser parser;
+    private final Duration accessTokenValidity;
+    private final Duration refreshTokenValidity;
+    private final Duration registrationTokenValidity;
+
+    // @param secret Base64 로 인코딩된 HMAC 키 (256비트 이상)
+    // @param accessTokenValidity access token 유효 기간
+    // @param refreshTokenValidity refresh token 유효 기간
+    // @param registrationTokenValidity 추가 정보 등록용 token 유효 기간
+    public JwtTokenProvider(@Value("${auth.token.secret}") String secret,
+                            @Value("${auth.token.access-validity:30m}") Duration accessTokenValidity,
+                            @Value("${auth.token.refresh-validity:14d}") Duration refreshTokenValidity,
+                            @Value("${auth.token.registration-validity:10m}") Duration registrationTokenValidity) {
+        this.key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+        this.parser = Jwts.parser().verifyWith(key).build();
+        this.accessTokenValidity = accessTokenValidity;
+        this.refreshTokenValidity = refreshTokenValidity;
+        this.registrationTokenValidity = registrationTokenValidity;
+    }
+
+
+    // access token 발급
+    // 요청마다 DB 나 세션을 조회하지 않도록 SessionUser 정보를 토큰에 담음
+    // @param sessionUser 로그인한 사용자 정보
+    // @return 서명된 access token
+    public String createAccessToken(SessionUser sessionUser) {
+        Instant now = Instant.now();
+        return Jwts.builder()
+                .subject(String.valueOf(sessionUser.getId()))
+                .claim(TOKEN_TYPE, ACCESS)
+                .claim("kakaoId", sessionUser.getKakaoId())
+                .claim("kakaoEmail", sessionUser.getKakaoEmail())
+                .claim("name", sessionUser.getName())
+                .claim("email", sessionUser.getEmail())
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(now.plus(accessTokenValidity)))
+                .signWith(key)
+                .compact();
+    }
+
+
+    // refresh token 발급 (사용자 ID 만 담고, 재발급 시 최신 사용자 정보를 다시 조회)
+    // @param userId 사용자 ID
+    // @return 서명된 refresh token
+    public String createRefreshToken(Long userId) {
+        Instant now = Instant.now();
+        return Jwts.builder()
+                .subject(String.valueOf(userId))
+                .claim(TOKEN_TYPE, REFRESH)
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(now.plus(refreshTokenValidity)))
+                .signWith(key)
+                .compact();
+    }
+
+
+    // 추가 정보 등록용 token 발급 (첫 로그인 사용자, 등록 API 에서만 사용하고 refresh token 은 없음)
+    // @param kakaoId 카카오 ID
+    // @return 서명된 등록용 token
+    public String createRegistrationToken(String kakaoId) {
+        Instant now = Instant.now();
+        return Jwts.builder()
+                .subject(kakaoId)
+                .claim(TOKEN_TYPE, REGISTRATION)
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(now.plus(registrationTokenValidity)))
+                .signWith(key)
+                .compact();
+    }
+
+
+    // access token 검증 후 사용자 정보 복원
+    // @param token access token
+    // @return 토큰에 담긴 사용자 정보
+    public SessionUser parseAccessToken(String token) {
+        Claims claims = parse(token, ErrorCode.TOKEN_EXPIRED);
+
+        if (!ACCESS.equals(claims.get(TOKEN_TYPE, String.class))) {
+            throw new BusinessException(ErrorCode.NOT_ACCESS_TOKEN_TYPE);
+        }
+        return toSessionUser(claims);
+    }
+
+
+    // Authorization 헤더의 token 검증 (access token 또는 추가 정보 등록용 token)
+    // @param token access token 또는 등록용 token
+    // @return access token 이면 SessionUser, 등록용 token 이면 RegistrationPrincipal
+    public Object parsePrincipal(String token) {
+        Claims claims = parse(token, ErrorCode.TOKEN_EXPIRED);
+
+        String tokenType = claims.get(TOKEN_TYPE, String.class);
+        if (REGISTRATION.equals(tokenType)) {
+            return new RegistrationPrincipal(claims.getSubject());
+        }
+        if (!ACCESS.equals(tokenType)) {
+            throw new BusinessException(ErrorCode.NOT_ACCESS_TOKEN_TYPE);
+        }
+        return toSessionUser(claims);
+    }
+
+    private static SessionUser toSessionUser(Claims claims) {
+        return SessionUser.builder()
+                .id(Long.valueOf(claims.getSubject()))
+                .kakaoId(claims.get("kakaoId", String.class))
+                .kakaoEmail(claims.get("kakaoEmail", String.class))
+                .name(claims.get("name", String.class))
+                .email(claims.get("email", String.class))
+                .build();
+    }
+
+
+    // refresh token 검증
+    // @param token refresh token
+    // @return 사용자 ID
+    public Long parseRefreshToken(String token) {
+        Claims claims = parse(token, ErrorCode.REFRESH_TOKEN_EXPIRED);
+
+        if (!REFRESH.equals(claims.get(TOKEN_TYPE, String.class))) {
+            throw new BusinessException(ErrorCode.NOT_VALID_TOKEN);
+        }
+        return Long.valueOf(claims.getSubject());
+    }
+
+    private Claims parse(String token, ErrorCode expiredErrorCode) {
+        try {
+            return parser.parseSignedClaims(token).getPayload();
+        } catch (ExpiredJwtException e) {
+            throw new BusinessException(expiredErrorCode);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.NOT_VALID_TOKEN);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.kernelLetter.global.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kernelLetter.dto.SessionUser;
+import com.kernelLetter.global.error.ApiErrorMetrics;
+import com.kernelLetter.global.error.ErrorCode;
+import com.kernelLetter.global.error.ErrorResult;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 경로별 요청 수 제한 (토큰 버킷)
+// 로그인한 사용자는 사용자 ID, 비로그인 요청은 클라이언트 IP 로 구분하고, 초과하면 429 + Retry-After 로 응답
+// 토큰 모드의 사용자 정보가 필요하므로 JwtAuthenticationFilter 뒤에서 실행
+// (프록시 뒤에서 운영할 때는 server.forward-headers-strategy 를 설정해야 실제 클라이언트 IP 로 구분됨)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final List<RouteLimiter> routes;
+    private final ObjectMapper objectMapper;
+    private final ApiErrorMetrics apiErrorMetrics;
+
+    public RateLimitFilter(RateLimitProperties properties, ObjectMapper objectMapper, ApiErrorMetrics apiErrorMetrics) {
+        this.routes = properties.getRoutes().stream()
+                .map(route -> new RouteLimiter(
+                        PathPatternParser.defaultInstance.parse(route.getPath()),
+                        new TokenBucketRateLimiter(route.getCapacity(), route.getRefillPeriod(),
+                                properties.getIdleTimeout(), properties.getMaxBuckets(),
+                                properties.getShards())))
+                .toList();
+        this.objectMapper = objectMapper;
+        this.apiErrorMetrics = apiErrorMetrics;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        RouteLimiter route = findRoute(request);
+        if (route == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long waitNanos = route.limiter().tryAcquire(clientKey(request));
+        if (waitNanos > 0) {
+            writeTooManyRequests(response, waitNanos);
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private RouteLimiter findRoute(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
+        for (RouteLimiter route : routes) {
+            if (route.pattern().matches(path)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    // 토큰 모드는 SecurityContext, 세션 모드는 세션의 사용자 정보 (세션은 새로 만들지 않음)
+    private static String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof SessionUser sessionUser) {
+            return "user:" + sessionUser.getId();
+        }
+
+        HttpSession session = request.getSession(false);
+        if (session != null && session.getAttribute("user") instanceof SessionUser sessionUser) {
+            return "user:" + sessionUser.getId();
+        }
+
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    // 필터에서 거절한 요청은 ExceptionAdvice 를 거치지 않으므로 같은 형식으로 직접 응답하고 에러 카운터도 직접 기록
+    private void writeTooManyRequests(HttpServletResponse response, long waitNanos) throws IOException {
+        ErrorCode errorCode = ErrorCode.TOO_MANY_REQUESTS;
+        ErrorResult errorResult = ErrorResult.of(errorCode.getErrorCode(), errorCode.getMessage());
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        apiErrorMetrics.count(errorCode.getErrorCode(), errorCode.getHttpStatus());
+
+        response.setStatus(errorCode.getHttpStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getWriter(), errorResult);
+    }
+
+    private record RouteLimiter(PathPattern pattern, TokenBucketRateLimiter limiter) {
+    }
+}
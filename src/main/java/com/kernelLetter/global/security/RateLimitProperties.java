@@ -0,0 +1,47 @@
+package com.kernelLetter.global.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+// 요청 수 제한 설정 (rate-limit.*)
+// 경로별로 버킷 크기와 충전 속도를 지정하고, 요청 경로와 처음 일치하는 경로의 제한을 적용
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // 가득 찬 채로 이 시간이 지난 버킷은 메모리에서 제거
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    // 경로별로 보관하는 최대 버킷 수 (넘으면 가득 찬 버킷을 바로 정리하고, 그래도 자리가 없으면 새 요청자는 거절)
+    private int maxBuckets = 100_000;
+
+    // 경로별 버킷 맵 shard 수
+    private int shards = 16;
+
+    private List<Route> routes = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Route {
+
+        // 설정 구분용 이름 (login, letter ...)
+        private String name;
+
+        // 적용할 경로 패턴 (PathPattern, 예: /Letter/**)
+        private String path;
+
+        // 한 번에 허용하는 최대 요청 수
+        private int capacity;
+
+        // 토큰 하나가 다시 채워지는 시간
+        private Duration refillPeriod;
+    }
+}
@@ -0,0 +1,7 @@
+package com.kernelLetter.global.security;
+
+// 추가 정보 등록 전 사용자 (토큰 모드의 등록용 token 으로 인증된 요청)
+// SessionUser 가 아니므로 로그인이 필요한 API 에서는 비로그인으로 취급되고, 추가 정보 등록에만 사용
+// @param kakaoId 카카오 ID
+public record RegistrationPrincipal(String kakaoId) {
+}
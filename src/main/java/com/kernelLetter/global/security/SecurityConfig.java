@@ -1,18 +1,31 @@
 package com.kernelLetter.global.security;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kernelLetter.global.error.ApiErrorMetrics;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 @Configuration
 @EnableMethodSecurity
+@EnableConfigurationProperties(RateLimitProperties.class)
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+    // 토큰 인증 모드(auth.mode=token)에서만 존재
+    private final ObjectProvider<JwtTokenProvider> jwtTokenProvider;
+    private final ObjectMapper objectMapper;
+    private final RateLimitProperties rateLimitProperties;
+    private final ApiErrorMetrics apiErrorMetrics;
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
@@ -21,6 +34,23 @@ public class SecurityConfig {
                 )
                 .csrf(AbstractHttpConfigurer::disable);
 
+        // 토큰 인증 모드: 요청마다 토큰 서명만 검증하고 세션은 만들지 않음
+        JwtTokenProvider tokenProvider = jwtTokenProvider.getIfAvailable();
+        if (tokenProvider != null) {
+            http
+                    .sessionManagement(session -> session
+                            .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+                    )
+                    .addFilterBefore(new JwtAuthenticationFilter(tokenProvider, objectMapper, apiErrorMetrics),
+                            UsernamePasswordAuthenticationFilter.class);
+        }
+
+        // 요청 수 제한 (JwtAuthenticationFilter 뒤에서 실행)
+        if (rateLimitProperties.isEnabled()) {
+            http.addFilterAfter(new RateLimitFilter(rateLimitProperties, objectMapper, apiErrorMetrics),
+                    UsernamePasswordAuthenticationFilter.class);
+        }
+
         return http.build();
     }
 }
@@ -0,0 +1,157 @@
+package com.kernelLetter.global.security;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+// 키(사용자 / IP)별 토큰 버킷 (락 없음)
+//
+// 버킷 상태를 "버킷이 다시 가득 차는 시각(nanoTime)" long 하나로 표현 (GCRA, 토큰 버킷과 같은 동작)
+// - 토큰 하나를 쓰면 가득 차는 시각이 refillPeriod 만큼 뒤로 밀림
+// - 가득 차는 시각이 지금보다 capacity * refillPeriod 넘게 뒤로 밀리면 남은 토큰이 없음
+// 상태가 long 하나라 AtomicLong CAS 로 갱신하고, 버킷 맵은 shard 로 나눠 shard 마다 따로 정리
+//
+// 가득 찬 버킷은 새 버킷과 같으므로, idleTimeout 동안 가득 차 있던 버킷은 지워도 동작이 바뀌지 않음
+// 정리는 별도 스레드 없이 요청이 들어올 때 shard 별로 idleTimeout 마다 한 번씩 수행
+// - 지울 버킷은 먼저 CAS 로 RETIRED 표시 후 맵에서 제거 (표시와 토큰 사용 CAS 중 하나만 성공하므로 사용 기록이 사라지지 않음)
+// - RETIRED 버킷을 만난 요청은 맵에서 새 버킷을 다시 가져옴
+//
+// 키가 IP 라 요청자가 많으면 버킷도 계속 늘어나므로 shard 마다 maxBuckets / shardCount 개까지만 보관
+// 가득 찬 shard 에 새 키가 들어오면 가득 찬 버킷을 바로 정리하고 (refillPeriod 마다 최대 한 번),
+// 그래도 자리가 없으면 새 키의 요청은 거절 (버킷을 기록하지 못한 요청자를 제한 없이 통과시키지 않도록)
+public class TokenBucketRateLimiter {
+
+    // 맵에서 제거되었거나 제거 중인 버킷 표시 (nanoTime 이 이 값이 될 일은 없음)
+    private static final long RETIRED = Long.MIN_VALUE;
+
+    private final long capacityNanos;
+    private final long refillPeriodNanos;
+    private final long idleTimeoutNanos;
+    private final int maxBucketsPerShard;
+    private final Map<String, AtomicLong>[] shards;
+    private final AtomicLong[] nextSweepAt;
+    private final AtomicLong[] nextFullSweepAt;
+    private final LongSupplier nanoClock;
+
+    // @param capacity 한 번에 허용하는 최대 요청 수 (버킷 크기)
+    // @param refillPeriod 토큰 하나가 다시 채워지는 시간
+    // @param idleTimeout 가득 찬 채로 이 시간이 지난 버킷은 제거
+    // @param maxBuckets 보관하는 최대 버킷 수 (shard 마다 나눠서 적용)
+    // @param shardCount 버킷 맵 shard 수
+    public TokenBucketRateLimiter(int capacity, Duration refillPeriod, Duration idleTimeout, int maxBuckets,
+                                  int shardCount) {
+        this(capacity, refillPeriod, idleTimeout, maxBuckets, shardCount, System::nanoTime);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    TokenBucketRateLimiter(int capacity, Duration refillPeriod, Duration idleTimeout, int maxBuckets, int shardCount,
+                           LongSupplier nanoClock) {
+        if (capacity < 1 || refillPeriod.isNegative() || refillPeriod.isZero() || maxBuckets < 1 || shardCount < 1) {
+            throw new IllegalArgumentException("capacity, refillPeriod, maxBuckets, shardCount 는 0보다 커야 합니다.");
+        }
+        this.refillPeriodNanos = refillPeriod.toNanos();
+        this.capacityNanos = capacity * refillPeriodNanos;
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.maxBucketsPerShard = Math.max(1, maxBuckets / shardCount);
+        this.nanoClock = nanoClock;
+
+        long now = nanoClock.getAsLong();
+        this.shards = new Map[shardCount];
+        this.nextSweepAt = new AtomicLong[shardCount];
+        this.nextFullSweepAt = new AtomicLong[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new ConcurrentHashMap<>();
+            nextSweepAt[i] = new AtomicLong(now + idleTimeoutNanos);
+            nextFullSweepAt[i] = new AtomicLong(now);
+        }
+    }
+
+    // 토큰 하나 사용
+    // @param key 요청자 구분 키
+    // @return 허용이면 0, 거절이면 다음 토큰이 채워질 때까지 남은 시간(ns)
+    public long tryAcquire(String key) {
+        long now = nanoClock.getAsLong();
+        int shard = Math.floorMod(key.hashCode(), shards.length);
+        sweepIfDue(shard, now);
+
+        while (true) {
+            AtomicLong fullAt = bucketOf(shard, key, now);
+            if (fullAt == null) {
+                return refillPeriodNanos;
+            }
+
+            long current = fullAt.get();
+            if (current == RETIRED) {
+                // 정리 중인 버킷: 맵에서 빠진 뒤 새 버킷으로 다시 시도
+                shards[shard].remove(key, fullAt);
+                continue;
+            }
+
+            long next = Math.max(current, now) + refillPeriodNanos;
+            long overflow = next - now - capacityNanos;
+            if (overflow > 0) {
+                return overflow;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    // @return 현재 보관 중인 버킷 수
+    public int size() {
+        int size = 0;
+        for (Map<String, AtomicLong> shard : shards) {
+            size += shard.size();
+        }
+        return size;
+    }
+
+    // @return key 의 버킷 (shard 가 가득 차서 새 버킷을 만들 수 없으면 null)
+    private AtomicLong bucketOf(int shard, String key, long now) {
+        Map<String, AtomicLong> buckets = shards[shard];
+        AtomicLong fullAt = buckets.get(key);
+        if (fullAt != null) {
+            return fullAt;
+        }
+
+        if (buckets.size() >= maxBucketsPerShard) {
+            sweepFullIfDue(shard, now);
+            if (buckets.size() >= maxBucketsPerShard) {
+                return null;
+            }
+        }
+        return buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+    }
+
+    // idleTimeout 마다 한 번, 가득 찬 채로 idleTimeout 이 지난 버킷 정리
+    private void sweepIfDue(int shard, long now) {
+        long due = nextSweepAt[shard].get();
+        if (now - due < 0 || !nextSweepAt[shard].compareAndSet(due, now + idleTimeoutNanos)) {
+            return;
+        }
+        sweep(shard, now, idleTimeoutNanos);
+    }
+
+    // shard 가 가득 찼을 때 refillPeriod 마다 최대 한 번, 지금 가득 차 있는 버킷을 모두 정리
+    private void sweepFullIfDue(int shard, long now) {
+        long due = nextFullSweepAt[shard].get();
+        if (now - due < 0 || !nextFullSweepAt[shard].compareAndSet(due, now + refillPeriodNanos)) {
+            return;
+        }
+        sweep(shard, now, 0);
+    }
+
+    // 가득 찬 지 minIdleNanos 이상 지난 버킷을 RETIRED 로 표시한 뒤 제거
+    // (표시 CAS 가 실패하면 그 사이 토큰이 사용된 것이므로 유지)
+    private void sweep(int shard, long now, long minIdleNanos) {
+        shards[shard].forEach((key, fullAt) -> {
+            long current = fullAt.get();
+            if (current != RETIRED && now - current >= minIdleNanos && fullAt.compareAndSet(current, RETIRED)) {
+                shards[shard].remove(key, fullAt);
+            }
+        });
+    }
+}
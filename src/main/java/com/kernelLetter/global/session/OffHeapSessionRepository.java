@@ -0,0 +1,179 @@
+package com.kernelLetter.global.session;
+
+import com.kernelLetter.global.session.OffHeapSlabAllocator.Slot;
+import org.springframework.session.MapSession;
+import org.springframework.session.SessionRepository;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 단일 서버용 세션 저장소 (session.store=local)
+// 세션을 SessionValueSerializer 로 직렬화해 힙 밖 slot(OffHeapSlabAllocator)에 보관하므로 세션 수가 늘어도 힙 사용량이 거의 늘지 않음
+// 요청마다 저장되므로 크기가 slot 안에 들어가면 같은 slot 에 덮어쓰고, 넘칠 때만 더 큰 slot 으로 옮김
+//
+// slot 형식: 생성 시각(long) + 마지막 접근 시각(long) + 만료 시간 초(int) + 속성 수(int) + [이름, 값 길이, 값]...
+public class OffHeapSessionRepository implements SessionRepository<MapSession> {
+
+    private static final int LAST_ACCESSED_OFFSET = Long.BYTES;
+    private static final int MAX_INACTIVE_OFFSET = Long.BYTES * 2;
+
+    private final Map<String, Slot> sessions = new ConcurrentHashMap<>();
+    private final OffHeapSlabAllocator allocator = new OffHeapSlabAllocator();
+    private final SessionValueSerializer serializer;
+    private final Duration defaultMaxInactiveInterval;
+
+    public OffHeapSessionRepository(SessionValueSerializer serializer, Duration defaultMaxInactiveInterval) {
+        this.serializer = serializer;
+        this.defaultMaxInactiveInterval = defaultMaxInactiveInterval;
+    }
+
+    @Override
+    public MapSession createSession() {
+        MapSession session = new MapSession();
+        session.setMaxInactiveInterval(defaultMaxInactiveInterval);
+        return session;
+    }
+
+    @Override
+    public void save(MapSession session) {
+        // 세션 ID 가 바뀐 경우(로그인 시 세션 고정 방지 등) 이전 ID 로 저장된 세션 제거
+        if (!session.getId().equals(session.getOriginalId())) {
+            deleteById(session.getOriginalId());
+        }
+
+        String id = session.getId();
+        byte[] bytes = write(session);
+        sessions.compute(id, (key, slot) -> {
+            if (slot != null && slot.fits(bytes.length)) {
+                slot.write(id, bytes);
+                return slot;
+            }
+            Slot allocated = allocator.allocate(bytes.length);
+            allocated.write(id, bytes);
+            if (slot != null) {
+                allocator.free(slot);
+            }
+            return allocated;
+        });
+    }
+
+    @Override
+    public MapSession findById(String id) {
+        while (true) {
+            Slot slot = sessions.get(id);
+            if (slot == null) {
+                return null;
+            }
+
+            // 조회와 읽기 사이에 slot 이 반납되었으면 다시 조회
+            byte[] bytes = slot.read(id);
+            if (bytes == null) {
+                continue;
+            }
+
+            MapSession session = read(id, bytes);
+            if (session.isExpired()) {
+                removeIfExpired(id, Instant.now());
+                return null;
+            }
+            return session;
+        }
+    }
+
+    @Override
+    public void deleteById(String id) {
+        Slot slot = sessions.remove(id);
+        if (slot != null) {
+            allocator.free(slot);
+        }
+    }
+
+
+    // 만료된 세션 정리 (조회되지 않고 버려진 세션이 메모리에 남지 않도록 주기적으로 호출)
+    // @return 제거한 세션 수
+    public int cleanUpExpiredSessions() {
+        Instant now = Instant.now();
+        int removed = 0;
+
+        for (String id : sessions.keySet()) {
+            if (removeIfExpired(id, now)) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    public int size() {
+        return sessions.size();
+    }
+
+    // @return 세션 저장에 할당한 힙 밖 메모리 (바이트)
+    public long reservedBytes() {
+        return allocator.reservedBytes();
+    }
+
+    // 만료 확인과 제거를 같은 compute 안에서 처리 (그 사이 저장된 세션을 지우지 않도록)
+    private boolean removeIfExpired(String id, Instant now) {
+        boolean[] removed = {false};
+        sessions.computeIfPresent(id, (key, slot) -> {
+            Instant lastAccessed = Instant.ofEpochMilli(slot.getLong(LAST_ACCESSED_OFFSET));
+            int maxInactiveSeconds = slot.getInt(MAX_INACTIVE_OFFSET);
+            if (maxInactiveSeconds < 0 || !lastAccessed.plusSeconds(maxInactiveSeconds).isBefore(now)) {
+                return slot;
+            }
+            allocator.free(slot);
+            removed[0] = true;
+            return null;
+        });
+        return removed[0];
+    }
+
+    private byte[] write(MapSession session) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            out.writeLong(session.getCreationTime().toEpochMilli());
+            out.writeLong(session.getLastAccessedTime().toEpochMilli());
+            out.writeInt((int) session.getMaxInactiveInterval().getSeconds());
+            out.writeInt(session.getAttributeNames().size());
+
+            for (String name : session.getAttributeNames()) {
+                byte[] value = serializer.serialize(session.getAttribute(name));
+                out.writeUTF(name);
+                out.writeInt(value.length);
+                out.write(value);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return buffer.toByteArray();
+    }
+
+    private MapSession read(String id, byte[] bytes) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            MapSession session = new MapSession(id);
+            session.setCreationTime(Instant.ofEpochMilli(in.readLong()));
+            session.setLastAccessedTime(Instant.ofEpochMilli(in.readLong()));
+            session.setMaxInactiveInterval(Duration.ofSeconds(in.readInt()));
+
+            int attributeCount = in.readInt();
+            for (int i = 0; i < attributeCount; i++) {
+                String name = in.readUTF();
+                byte[] value = new byte[in.readInt()];
+                in.readFully(value);
+                session.setAttribute(name, serializer.deserialize(value));
+            }
+            return session;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.kernelLetter.global.session;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+// OffHeapSessionRepository 가 쓰는 힙 밖 메모리 영역
+// direct 버퍼를 CHUNK_SIZE 단위로 할당해서 고정 크기 slot 으로 나눠 쓰고, 반납된 slot 은 다시 사용
+// 세션을 저장할 때마다 direct 버퍼를 새로 만들지 않으므로 GC(Cleaner) 에 의존한 해제나 Bits.reserveMemory 대기가 없음
+// 모든 slot 이 반납된 chunk 는 크기별로 하나만 남기고 해제 (최대 동시 세션 수만큼 늘어난 메모리가 그대로 남지 않도록)
+//
+// 가상 스레드에서 호출되므로 synchronized 대신 ReentrantLock 사용 (락을 기다리는 동안 캐리어 스레드를 붙잡지 않음)
+public class OffHeapSlabAllocator {
+
+    // slot 크기 (SessionUser 하나가 든 로그인 세션은 256 바이트 안에 들어감)
+    private static final int[] SLOT_SIZES = {256, 1024, 4096};
+    private static final int CHUNK_SIZE = 1024 * 1024;
+
+    private final SizeClass[] sizeClasses;
+    private final AtomicLong reservedBytes = new AtomicLong();
+
+    public OffHeapSlabAllocator() {
+        this.sizeClasses = new SizeClass[SLOT_SIZES.length];
+        for (int i = 0; i < SLOT_SIZES.length; i++) {
+            sizeClasses[i] = new SizeClass(SLOT_SIZES[i]);
+        }
+    }
+
+    // @param length 저장할 바이트 수
+    // @return length 바이트 이상을 담을 수 있는 빈 slot (가장 큰 slot 보다 크면 전용 버퍼)
+    public Slot allocate(int length) {
+        SizeClass sizeClass = sizeClassOf(length);
+        if (sizeClass == null) {
+            reservedBytes.addAndGet(length);
+            return new Slot(ByteBuffer.allocateDirect(length), null);
+        }
+
+        sizeClass.lock.lock();
+        try {
+            // 빈 slot 이 남은 chunk 가 없을 때만 chunk 추가
+            Chunk chunk = sizeClass.available.peekFirst();
+            if (chunk == null) {
+                chunk = addChunk(sizeClass);
+            }
+
+            Slot slot = chunk.free.pop();
+            chunk.used++;
+            if (chunk.free.isEmpty()) {
+                sizeClass.available.pollFirst();
+            }
+            return slot;
+        } finally {
+            sizeClass.lock.unlock();
+        }
+    }
+
+    // slot 반납 (내용을 비우고 같은 크기의 다음 할당에서 재사용)
+    public void free(Slot slot) {
+        slot.clear();
+        Chunk chunk = slot.chunk;
+        if (chunk == null) {
+            reservedBytes.addAndGet(-slot.region.capacity());
+            return;
+        }
+
+        SizeClass sizeClass = chunk.sizeClass;
+        sizeClass.lock.lock();
+        try {
+            if (chunk.free.isEmpty()) {
+                sizeClass.available.addLast(chunk);
+            }
+            chunk.free.push(slot);
+            chunk.used--;
+
+            // 다 비었으면 해제 (다른 chunk 에 빈 slot 이 남아 있을 때만, 경계에서 할당 / 해제가 반복되지 않도록)
+            if (chunk.used == 0 && sizeClass.available.size() > 1) {
+                sizeClass.available.remove(chunk);
+                reservedBytes.addAndGet(-CHUNK_SIZE);
+            }
+        } finally {
+            sizeClass.lock.unlock();
+        }
+    }
+
+    // @return 지금 할당되어 있는 힙 밖 메모리 (바이트)
+    public long reservedBytes() {
+        return reservedBytes.get();
+    }
+
+    // chunk 하나를 slot 으로 나눠 빈 slot 이 남은 chunk 목록에 추가 (sizeClass 락 안에서 호출)
+    private Chunk addChunk(SizeClass sizeClass) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(CHUNK_SIZE);
+        reservedBytes.addAndGet(CHUNK_SIZE);
+
+        Chunk chunk = new Chunk(sizeClass);
+        for (int offset = 0; offset + sizeClass.slotSize <= CHUNK_SIZE; offset += sizeClass.slotSize) {
+            chunk.free.push(new Slot(buffer.slice(offset, sizeClass.slotSize), chunk));
+        }
+        sizeClass.available.addFirst(chunk);
+        return chunk;
+    }
+
+    private SizeClass sizeClassOf(int length) {
+        for (SizeClass sizeClass : sizeClasses) {
+            if (length <= sizeClass.slotSize) {
+                return sizeClass;
+            }
+        }
+        return null;
+    }
+
+    // 같은 크기 slot 을 담은 chunk 목록
+    private static final class SizeClass {
+        private final int slotSize;
+        private final ReentrantLock lock = new ReentrantLock();
+        // 빈 slot 이 남은 chunk (다 쓴 chunk 는 slot 이 반납될 때 다시 추가)
+        private final Deque<Chunk> available = new ArrayDeque<>();
+
+        private SizeClass(int slotSize) {
+            this.slotSize = slotSize;
+        }
+    }
+
+    // direct 버퍼 하나와 그 안의 빈 slot (해제된 chunk 의 버퍼는 남은 Slot 참조가 사라지면 GC 가 반납)
+    private static final class Chunk {
+        private final SizeClass sizeClass;
+        private final Deque<Slot> free = new ArrayDeque<>();
+        private int used;
+
+        private Chunk(SizeClass sizeClass) {
+            this.sizeClass = sizeClass;
+        }
+    }
+
+    // 고정 크기 메모리 영역 하나
+    // 반납 후 다른 세션이 같은 slot 을 쓸 수 있으므로 읽기, 쓰기 모두 소유자(세션 ID)를 확인
+    public static final class Slot {
+
+        private final ByteBuffer region;
+        private final Chunk chunk;
+        private final ReentrantLock lock = new ReentrantLock();
+        private String owner;
+        private int length;
+
+        private Slot(ByteBuffer region, Chunk chunk) {
+            this.region = region;
+            this.chunk = chunk;
+        }
+
+        public boolean fits(int length) {
+            return length <= region.capacity();
+        }
+
+        // 제자리에 덮어쓰기
+        public void write(String owner, byte[] bytes) {
+            lock.lock();
+            try {
+                region.put(0, bytes);
+                this.owner = owner;
+                this.length = bytes.length;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // @return 저장된 바이트 복사본 (그 사이 반납되어 다른 세션이 쓰고 있으면 null)
+        public byte[] read(String owner) {
+            lock.lock();
+            try {
+                if (!owner.equals(this.owner)) {
+                    return null;
+                }
+                byte[] bytes = new byte[length];
+                region.get(0, bytes, 0, length);
+                return bytes;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // 세션 전체를 읽지 않고 고정 위치 값만 확인 (만료 여부 확인용)
+        public long getLong(int offset) {
+            lock.lock();
+            try {
+                return region.getLong(offset);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        public int getInt(int offset) {
+            lock.lock();
+            try {
+                return region.getInt(offset);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void clear() {
+            lock.lock();
+            try {
+                owner = null;
+                length = 0;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.kernelLetter.global.session;
+
+import com.kernelLetter.dto.SessionUser;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+// 세션 속성 값을 java.io 직렬화 대신 작은 바이너리 형식으로 변환하는 직렬화기
+// Redis 세션 저장소, 로컬(off-heap) 세션 저장소에서 공통으로 사용
+//
+// 저장 형식 (첫 바이트가 타입 태그)
+// - 0x01 + UTF-8 문자열
+// - 0x02 + long, 0x03 + int (세션 생성/접근 시각, 만료 시간)
+// - 0x10 + 형식 버전 + SessionUser 필드
+// - 그 외 타입은 JDK 직렬화 (스트림 헤더 0xAC 로 구분)
+public class SessionValueSerializer implements RedisSerializer<Object> {
+
+    private static final byte STRING = 0x01;
+    private static final byte LONG = 0x02;
+    private static final byte INTEGER = 0x03;
+    private static final byte SESSION_USER = 0x10;
+    private static final byte JDK_STREAM_MAGIC = (byte) 0xAC;
+
+    // SessionUser 필드 구성이 바뀌면 올리고 이전 버전도 읽을 수 있게 유지
+    private static final byte SESSION_USER_VERSION = 1;
+
+    private final JdkSerializationRedisSerializer jdkSerializer = new JdkSerializationRedisSerializer();
+
+    @Override
+    public byte[] serialize(Object value) {
+        if (value == null) {
+            return new byte[0];
+        }
+
+        if (value instanceof String string) {
+            byte[] utf8 = string.getBytes(StandardCharsets.UTF_8);
+            return ByteBuffer.allocate(1 + utf8.length).put(STRING).put(utf8).array();
+        }
+        if (value instanceof Long number) {
+            return ByteBuffer.allocate(1 + Long.BYTES).put(LONG).putLong(number).array();
+        }
+        if (value instanceof Integer number) {
+            return ByteBuffer.allocate(1 + Integer.BYTES).put(INTEGER).putInt(number).array();
+        }
+        if (value instanceof SessionUser sessionUser) {
+            return writeSessionUser(sessionUser);
+        }
+
+        return jdkSerializer.serialize(value);
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        return switch (bytes[0]) {
+            case STRING -> new String(bytes, 1, bytes.length - 1, StandardCharsets.UTF_8);
+            case LONG -> ByteBuffer.wrap(bytes, 1, Long.BYTES).getLong();
+            case INTEGER -> ByteBuffer.wrap(bytes, 1, Integer.BYTES).getInt();
+            case SESSION_USER -> readSessionUser(bytes);
+            case JDK_STREAM_MAGIC -> jdkSerializer.deserialize(bytes);
+            default -> throw new SerializationException("알 수 없는 세션 값 형식입니다: " + bytes[0]);
+        };
+    }
+
+    private byte[] writeSessionUser(SessionUser sessionUser) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            out.writeByte(SESSION_USER);
+            out.writeByte(SESSION_USER_VERSION);
+
+            out.writeBoolean(sessionUser.getId() != null);
+            if (sessionUser.getId() != null) {
+                out.writeLong(sessionUser.getId());
+            }
+            writeNullableString(out, sessionUser.getKakaoId());
+            writeNullableString(out, sessionUser.getKakaoEmail());
+            writeNullableString(out, sessionUser.getName());
+            writeNullableString(out, sessionUser.getEmail());
+        } catch (IOException e) {
+            throw new SerializationException("세션 사용자 정보 직렬화 실패", e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private SessionUser readSessionUser(byte[] bytes) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, 1, bytes.length - 1))) {
+            byte version = in.readByte();
+            if (version != SESSION_USER_VERSION) {
+                throw new SerializationException("지원하지 않는 세션 사용자 형식 버전입니다: " + version);
+            }
+
+            Long id = in.readBoolean() ? in.readLong() : null;
+            return SessionUser.builder()
+                    .id(id)
+                    .kakaoId(readNullableString(in))
+                    .kakaoEmail(readNullableString(in))
+                    .name(readNullableString(in))
+                    .email(readNullableString(in))
+                    .build();
+        } catch (IOException e) {
+            throw new SerializationException("세션 사용자 정보 역직렬화 실패", e);
+        }
+    }
+
+    private static void writeNullableString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullableString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
@@ -0,0 +1,24 @@
+package com.kernelLetter.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+// 원문 대신 저장하거나 비교할 SHA-256 해시 (캐시 키, 요청 지문)
+public final class Sha256 {
+
+    private Sha256() {
+    }
+
+    // @param value 해시할 문자열 (UTF-8)
+    // @return 소문자 16진수 64자
+    public static String hex(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
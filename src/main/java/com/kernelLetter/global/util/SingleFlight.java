@@ -0,0 +1,52 @@
+package com.kernelLetter.global.util;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// 같은 키로 동시에 들어온 작업을 한 번만 실행하고 결과를 나눠 갖는 유틸
+// 먼저 들어온 요청이 실행하는 동안 뒤따라온 요청은 그 결과(또는 예외)를 기다림
+// 실행이 끝나면 키를 지우므로 결과를 캐시하지는 않음
+public class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    // @param key 중복 실행을 묶을 키
+    // @param loader 실제 작업
+    // @return 작업 결과 (동시에 요청한 쪽은 같은 결과를 받음)
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, future);
+        if (running != null) {
+            return await(running);
+        }
+
+        try {
+            V result = loader.get();
+            future.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    private V await(CompletableFuture<V> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            // 먼저 실행한 요청이 던진 예외를 그대로 전달 (ExceptionAdvice 에서 같은 에러 코드로 처리)
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.kernelLetter.repository;
+
+import com.kernelLetter.domain.entity.IdempotencyKey;
+import com.kernelLetter.domain.entity.IdempotencyKeyId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, IdempotencyKeyId> {
+
+    // 사용자의 키 등록 (같은 사용자가 이미 등록한 키면 PK 위반, 다른 트랜잭션이 같은 키를 등록 중이면 그 트랜잭션이 끝날 때까지 대기)
+    @Modifying
+    @Query(value = "insert into idempotency_key (sender_id, idempotency_key, request_hash, created_at) "
+            + "values (:senderId, :key, :requestHash, :createdAt)", nativeQuery = true)
+    int insert(@Param("senderId") Long senderId,
+               @Param("key") String key,
+               @Param("requestHash") String requestHash,
+               @Param("createdAt") LocalDateTime createdAt);
+
+    // 보관 기간이 지난 키 삭제
+    // @return 삭제된 행 수
+    @Modifying
+    @Query("delete from IdempotencyKey k where k.createdAt < :threshold")
+    int deleteCreatedBefore(@Param("threshold") LocalDateTime threshold);
+}
@@ -0,0 +1,48 @@
+package com.kernelLetter.repository;
+
+import com.kernelLetter.domain.entity.LetterBody;
+import com.kernelLetter.dto.LetterDetailDto;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface LetterBodyRepository extends JpaRepository<LetterBody, Long> {
+
+    // 편지 본문 수정 (본문을 읽지 않고 UPDATE 한 번으로 처리, 버전 1 증가)
+    // @return 수정된 행 수 (편지가 없으면 0)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update LetterBody b set b.content = :content, b.version = b.version + 1 " +
+            "where b.id = (select l.id from Letter l where l.sender.id = :senderId and l.receiver.id = :receiverId)")
+    int updateContent(@Param("senderId") Long senderId,
+                      @Param("receiverId") Long receiverId,
+                      @Param("content") String content);
+
+    // 현재 버전이 기대한 버전과 같을 때만 본문 수정 (낙관적 잠금)
+    // @return 수정된 행 수 (편지가 없거나 그 사이 다른 수정이 반영됐으면 0)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update LetterBody b set b.content = :content, b.version = b.version + 1 " +
+            "where b.id = (select l.id from Letter l where l.sender.id = :senderId and l.receiver.id = :receiverId) " +
+            "and b.version = :version")
+    int updateContentIfVersion(@Param("senderId") Long senderId,
+                               @Param("receiverId") Long receiverId,
+                               @Param("content") String content,
+                               @Param("version") Long version);
+
+    // 현재 본문 버전 (자동 저장 초안의 기준 버전)
+    // @return 편지가 없으면 빈 값
+    @Query("select b.version from LetterBody b join b.letter l " +
+            "where l.sender.id = :senderId and l.receiver.id = :receiverId")
+    Optional<Long> findVersion(@Param("senderId") Long senderId, @Param("receiverId") Long receiverId);
+
+    // 편지 한 통 열람 (본문 포함 단건 조회, 보낸 사람 / 받는 사람만)
+    // @return 편지가 없거나 열람할 수 없는 사용자면 빈 값
+    @Query("select new com.kernelLetter.dto.LetterDetailDto(l.id, l.sender.id, l.receiver.id, b.content, b.version) " +
+            "from LetterBody b join b.letter l " +
+            "where l.id = :letterId and (l.sender.id = :userId or l.receiver.id = :userId)")
+    Optional<LetterDetailDto> findDetailById(@Param("letterId") Long letterId, @Param("userId") Long userId);
+}
@@ -1,13 +1,56 @@
 package com.kernelLetter.repository;
 
 import com.kernelLetter.domain.entity.Letter;
+import com.kernelLetter.dto.LetterInboxDto;
+import com.kernelLetter.dto.LetterPairDto;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface LetterRepository extends JpaRepository<Letter, Long> {
     Optional<Letter> findBySenderIdAndReceiverId(Long senderId, Long receiverId);
     boolean existsBySenderIdAndReceiverId(Long senderId, Long receiverId);
+
+    // 받은 편지함 첫 페이지 (receiver, id) 인덱스를 역순으로 탐색
+    @Query("select new com.kernelLetter.dto.LetterInboxDto(l.id, s.id, s.name) " +
+            "from Letter l join l.sender s " +
+            "where l.receiver.id = :receiverId " +
+            "order by l.id desc")
+    List<LetterInboxDto> findInbox(@Param("receiverId") Long receiverId, Pageable pageable);
+
+    // 받은 편지함 다음 페이지 (cursor 보다 작은 id 부터 조회, OFFSET 미사용)
+    @Query("select new com.kernelLetter.dto.LetterInboxDto(l.id, s.id, s.name) " +
+            "from Letter l join l.sender s " +
+            "where l.receiver.id = :receiverId and l.id < :cursor " +
+            "order by l.id desc")
+    List<LetterInboxDto> findInboxBefore(@Param("receiverId") Long receiverId,
+                                         @Param("cursor") Long cursor,
+                                         Pageable pageable);
+
+    // 이미 작성된 (보낸 사람, 받는 사람) 쌍을 한 번에 조회
+    @Query("select new com.kernelLetter.dto.LetterPairDto(l.sender.id, l.receiver.id) " +
+            "from Letter l " +
+            "where l.sender.id in :senderIds and l.receiver.id in :receiverIds")
+    List<LetterPairDto> findPairs(@Param("senderIds") Collection<Long> senderIds,
+                                  @Param("receiverIds") Collection<Long> receiverIds);
+
+    // 보낸 사람 본인의 편지만 삭제 (조회 없이 DELETE 한 번, 본문은 letter_body 의 ON DELETE CASCADE)
+    // @return 삭제된 행 수 (편지가 없거나 본인이 보낸 편지가 아니면 0)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Letter l where l.id = :letterId and l.sender.id = :senderId")
+    int deleteBySender(@Param("letterId") Long letterId, @Param("senderId") Long senderId);
+
+    // 보낸 사람 본인의 편지 여러 통을 DELETE 한 번으로 삭제
+    // @return 삭제된 행 수
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Letter l where l.id in :letterIds and l.sender.id = :senderId")
+    int deleteAllBySender(@Param("letterIds") Collection<Long> letterIds, @Param("senderId") Long senderId);
 }
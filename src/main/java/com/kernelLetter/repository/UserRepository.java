@@ -2,8 +2,13 @@ package com.kernelLetter.repository;
 
 import com.kernelLetter.domain.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -14,4 +19,19 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findById(Long id);
 
     Optional<User> findByKakaoId(String kakaoId);
+
+    // 존재하는 회원 ID 만 IN 쿼리 한 번으로 조회
+    @Query("select u.id from User u where u.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    // 카카오 ID 로 가입 (이미 가입된 계정이면 아무것도 바꾸지 않음)
+    // 여러 서버에서 같은 계정의 가입 요청이 동시에 와도 uk_users_kakao_id 로 한 행만 생성
+    // MySQL 전용 문법 (on duplicate key update, 테스트의 H2 는 MODE=MySQL 로 지원), DB 를 바꾸면 이 쿼리도 바꿔야 함
+    // 네이티브 INSERT 라 AuditingEntityListener 를 거치지 않으므로 created_at, updated_at 을 직접 채움
+    // (JVM 시각이 아닌 DB 서버 시각, User 에 컬럼을 추가하거나 이름을 바꾸면 이 쿼리도 함께 수정)
+    @Modifying
+    @Query(value = "insert into users (kakao_id, kakao_email, is_first_login, created_at, updated_at) "
+            + "values (:kakaoId, :kakaoEmail, true, now(), now()) "
+            + "on duplicate key update kakao_id = kakao_id", nativeQuery = true)
+    int insertIfAbsent(@Param("kakaoId") String kakaoId, @Param("kakaoEmail") String kakaoEmail);
 }
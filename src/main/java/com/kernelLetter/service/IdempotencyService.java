@@ -0,0 +1,131 @@
+package com.kernelLetter.service;
+
+import com.kernelLetter.domain.entity.IdempotencyKey;
+import com.kernelLetter.domain.entity.IdempotencyKeyId;
+import com.kernelLetter.dto.LetterSendDto;
+import com.kernelLetter.global.config.CacheConfig;
+import com.kernelLetter.global.error.ErrorCode;
+import com.kernelLetter.global.error.exception.BusinessException;
+import com.kernelLetter.global.util.Sha256;
+import com.kernelLetter.repository.IdempotencyKeyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+// Idempotency-Key 로 같은 요청의 재시도를 한 번만 처리
+// 키는 로그인한 사용자마다 따로 관리 (캐시 키와 PK 모두 (로그인한 사용자, 키))
+// 요청 본문의 senderId 는 클라이언트가 바꿀 수 있으므로 키 범위와 요청 지문에 쓰지 않음
+// 처리한 키는 요청 지문(SHA-256)과 함께 로컬 캐시(크기 제한)와 idempotency_key 테이블에 기록
+// 재시도는 캐시 → DB 순으로 확인해서 편지 작성(LetterRepository) 없이 처음 응답을 그대로 돌려줌
+// 처리에 실패한 요청은 기록하지 않으므로 재시도하면 다시 처리됨
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final LetterService letterService;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache processedKeys;
+    private final Duration retention;
+
+    // @param retention DB 에 키를 보관하는 기간 (이 기간이 지난 재시도는 새 요청으로 처리)
+    public IdempotencyService(IdempotencyKeyRepository idempotencyKeyRepository,
+                              LetterService letterService,
+                              TransactionTemplate transactionTemplate,
+                              CacheManager cacheManager,
+                              @Value("${idempotency.retention:24h}") Duration retention) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.letterService = letterService;
+        this.transactionTemplate = transactionTemplate;
+        this.processedKeys = cacheManager.getCache(CacheConfig.IDEMPOTENCY_KEYS);
+        this.retention = retention;
+    }
+
+    // 편지 작성 (같은 키로 이미 처리한 요청이면 작성하지 않음)
+    // 편지는 로그인한 사용자가 보낸 것으로 작성 (본문의 senderId 가 다른 사용자면 NOT_VALID_USER)
+    // @param userId 로그인한 사용자 ID
+    // @param key Idempotency-Key 헤더 값
+    // @param dto 작성할 편지
+    // @return 이미 처리한 요청의 재시도면 true
+    public boolean sendLetterOnce(Long userId, String key, LetterSendDto dto) {
+        if (key.isBlank() || key.length() > IdempotencyKey.MAX_KEY_LENGTH) {
+            throw new BusinessException(ErrorCode.INVALID_IDEMPOTENCY_KEY);
+        }
+        if (dto.getSenderId() != null && !dto.getSenderId().equals(userId)) {
+            throw new BusinessException(ErrorCode.NOT_VALID_USER);
+        }
+        LetterSendDto letter = dto.toBuilder().senderId(userId).build();
+        IdempotencyKeyId id = new IdempotencyKeyId(userId, key);
+        String requestHash = fingerprint(userId, letter);
+
+        String processedHash = findProcessedHash(id);
+        if (processedHash != null) {
+            return replay(processedHash, requestHash);
+        }
+
+        // 키 등록과 편지 작성을 한 트랜잭션으로 처리 (작성에 실패하면 키도 남지 않음)
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                idempotencyKeyRepository.insert(id.getSenderId(), id.getKey(), requestHash, LocalDateTime.now());
+                letterService.sendLetter(letter);
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 같은 사용자가 같은 키로 동시에 보낸 요청이 먼저 커밋됨 (INSERT 가 그 트랜잭션이 끝날 때까지 대기한 뒤 PK 위반)
+            String concurrentHash = idempotencyKeyRepository.findById(id)
+                    .map(IdempotencyKey::getRequestHash)
+                    .orElseThrow(() -> e);
+            processedKeys.put(id, concurrentHash);
+            return replay(concurrentHash, requestHash);
+        }
+
+        processedKeys.put(id, requestHash);
+        return false;
+    }
+
+    // 보관 기간이 지난 키 정리
+    @Scheduled(fixedDelayString = "${idempotency.cleanup-interval:1h}")
+    public void deleteExpiredKeys() {
+        LocalDateTime threshold = LocalDateTime.now().minus(retention);
+        Integer deleted = transactionTemplate.execute(status -> idempotencyKeyRepository.deleteCreatedBefore(threshold));
+        log.debug("expired idempotency keys deleted: {}", deleted);
+    }
+
+    // 캐시에 없으면 DB 에서 확인하고 캐시에 다시 올림
+    private String findProcessedHash(IdempotencyKeyId id) {
+        String cached = processedKeys.get(id, String.class);
+        if (cached != null) {
+            return cached;
+        }
+
+        String stored = idempotencyKeyRepository.findById(id)
+                .map(IdempotencyKey::getRequestHash)
+                .orElse(null);
+        if (stored != null) {
+            processedKeys.put(id, stored);
+        }
+        return stored;
+    }
+
+    // 같은 사용자가 같은 키로 다른 내용을 보냈으면 처음 응답을 돌려주지 않고 거절
+    private static boolean replay(String processedHash, String requestHash) {
+        if (!processedHash.equals(requestHash)) {
+            throw new BusinessException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+        }
+        return true;
+    }
+
+    private static String fingerprint(Long userId, LetterSendDto dto) {
+        return Sha256.hex(userId + "\n" + dto.getReceiverId() + "\n" + dto.getContent());
+    }
+}
@@ -4,14 +4,21 @@ import com.kernelLetter.domain.entity.User;
 import com.kernelLetter.dto.KakaoUserInfoDTO;
 import com.kernelLetter.dto.LoginResultDTO;
 import com.kernelLetter.dto.SessionUser;
+import com.kernelLetter.dto.UserSnapshot;
+import com.kernelLetter.global.error.ErrorCode;
+import com.kernelLetter.global.error.exception.BusinessException;
+import com.kernelLetter.global.security.RegistrationPrincipal;
+import com.kernelLetter.global.util.SingleFlight;
 import com.kernelLetter.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
-
 
 //카카오 로그인 전체 프로세스를 관리하는 서비스
 
@@ -20,16 +27,28 @@ import java.util.Optional;
 public class KakaoAuthService {
 
     private final UserRepository userRepository;
+    private final UserService userService;
     private final KakaoTokenProvider kakaoTokenProvider;
     private final KakaoUserInfoProvider kakaoUserInfoProvider;
     private final HttpSession httpSession;
 
+    // 같은 카카오 계정의 로그인 요청이 동시에 들어오면 (더블 클릭, 리다이렉트 재시도)
+    // 카카오 API 호출과 가입 처리를 한 번만 실행하고 결과를 공유
+    // (사용자 정보 조회는 KakaoUserInfoProvider 의 캐시가 같은 역할)
+    // 세션 저장은 요청마다 따로 해야 하므로 묶지 않음
+    private final SingleFlight<String, String> tokenExchanges = new SingleFlight<>();
+    private final SingleFlight<String, UserSnapshot> signUps = new SingleFlight<>();
+
+    // 인증 방식: session(기본) | token (토큰 모드에서는 세션을 만들지 않음)
+    @Value("${auth.mode:session}")
+    private String authMode;
+
 
     // 1단계: 인가코드로 Access Token 요청
     // @param code 카카오 인가코드
     // @return Access Token
     public String requestAccessToken(String code) {
-        return kakaoTokenProvider.getAccessToken(code);
+        return tokenExchanges.execute(code, () -> kakaoTokenProvider.getAccessToken(code));
     }
 
 
@@ -44,48 +63,29 @@ public class KakaoAuthService {
     // 3단계: 로그인 처리 (회원가입 또는 로그인)
     // @param kakaoUserInfo 카카오에서 받아온 사용자 정보
     // @return 로그인 결과 (첫 로그인 여부 포함)
-    @Transactional
+    @Timed("login.process")
     public LoginResultDTO processLogin(KakaoUserInfoDTO kakaoUserInfo) {
+        String kakaoId = kakaoUserInfo.getKakaoId();
 
-        // DB 에서 카카오 ID로 사용자 검색
-        Optional<User> existingUser = userRepository.findByKakaoId(kakaoUserInfo.getKakaoId());
-
-        // 이미 가입된 사용자인 경우
-        if (existingUser.isPresent()) {
-            User user = existingUser.get();
-
-            // 첫 로그인 여부 확인
-            if (user.isFirstLogin()) {
-
-                // 첫 로그인이면 추가 정보 입력 필요
-                // 세션에는 임시로 카카오 정보만 저장
-                httpSession.setAttribute("tempKakaoId", kakaoUserInfo.getKakaoId());
-                return LoginResultDTO.firstLogin();
-            }
-            else {
-
-                // 이미 추가 정보를 입력한 사용자
-                // 세션에 사용자 정보 저장
-                SessionUser sessionUser = SessionUser.fromUser(user);
-                httpSession.setAttribute("user", sessionUser);
-                return LoginResultDTO.normalLogin(user);
-            }
+        // 카카오 ID로 사용자 검색 (재로그인 사용자는 캐시에서 조회)
+        // 처음 가입하는 사용자 → DB에 저장 (같은 계정의 동시 로그인은 한 번만 조회 / 가입)
+        UserSnapshot user = signUps.execute(kakaoId, () -> userService.findSnapshotByKakaoId(kakaoId)
+                .orElseGet(() -> userService.registerIfAbsent(kakaoId, kakaoUserInfo.getKakaoEmail())));
 
-        } else {
-            // 처음 가입하는 사용자 → DB에 저장
-            User newUser = User.builder()
-                    .kakaoId(kakaoUserInfo.getKakaoId())
-                    .kakaoEmail(kakaoUserInfo.getKakaoEmail())
-                    .isFirstLogin(true)
-                    .build();
-
-            userRepository.save(newUser);
-
-            // 세션에 임시로 카카오 ID 저장 (추가 정보 입력 대기)
-            httpSession.setAttribute("tempKakaoId", kakaoUserInfo.getKakaoId());
+        // 첫 로그인 여부 확인
+        if (user.isFirstLogin()) {
 
+            // 첫 로그인이면 추가 정보 입력 필요
+            // 세션에는 임시로 카카오 ID 만 저장 (추가 정보 입력 대기)
+            storeInSession("tempKakaoId", kakaoId);
             return LoginResultDTO.firstLogin();
         }
+
+        // 이미 추가 정보를 입력한 사용자
+        // 세션에 사용자 정보 저장
+        SessionUser sessionUser = user.toSessionUser();
+        storeInSession("user", sessionUser);
+        return LoginResultDTO.normalLogin(sessionUser);
     }
 
     // 4단계: 추가 정보 입력 처리 (처음 로그인 시)
@@ -94,8 +94,8 @@ public class KakaoAuthService {
     @Transactional
     public void registerAdditionalInfo(String name, String email) {
 
-        // 세션에서 임시 저장한 카카오 ID 가져오기
-        String tempKakaoId = (String) httpSession.getAttribute("tempKakaoId");
+        // 세션에서 임시 저장한 카카오 ID 가져오기 (토큰 모드에서는 첫 로그인 때 발급한 등록용 token 의 카카오 ID)
+        String tempKakaoId = getRegisteringKakaoId();
 
         if (tempKakaoId == null) {
             throw new IllegalStateException("세션에 카카오 정보가 없습니다. 다시 로그인해주세요.");
@@ -105,28 +105,75 @@ public class KakaoAuthService {
         User user = userRepository.findByKakaoId(tempKakaoId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
-        // 추가 정보 업데이트
+        // 추가 정보는 첫 로그인 때 한 번만 입력
+        if (!user.isFirstLogin()) {
+            throw new BusinessException(ErrorCode.ALREADY_REGISTERED_USER);
+        }
+
+        // 추가 정보 업데이트 (추가 정보 입력 전 사용자는 캐시하지 않으므로 캐시에서 제거할 항목 없음)
         user.updateEmail(name, email);
 
         // 세션에 정식 사용자 정보 저장
         SessionUser sessionUser = SessionUser.fromUser(user);
-        httpSession.setAttribute("user", sessionUser);
+        storeInSession("user", sessionUser);
 
         // 임시 카카오 ID는 제거
-        httpSession.removeAttribute("tempKakaoId");
+        if (!isTokenMode()) {
+            httpSession.removeAttribute("tempKakaoId");
+        }
     }
 
 
     // 로그아웃 처리
     public void logout() {
+        // 토큰 모드는 서버에 상태가 없으므로 클라이언트가 토큰을 폐기
+        if (isTokenMode()) {
+            return;
+        }
+
         // 세션 무효화 (모든 세션 데이터 삭제)
         httpSession.invalidate();
     }
 
 
     // 현재 로그인한 사용자 정보 조회
-    // @return 세션에 저장된 사용자 정보 (없으면 null)
+    // 토큰 모드에서는 JwtAuthenticationFilter 가 토큰에서 복원한 사용자 정보 사용 (세션, DB 조회 없음)
+    // @return 로그인한 사용자 정보 (없으면 null)
     public SessionUser getCurrentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof SessionUser sessionUser) {
+            return sessionUser;
+        }
+
+        if (isTokenMode()) {
+            return null;
+        }
         return (SessionUser) httpSession.getAttribute("user");
     }
+
+    // 추가 정보 등록 중인 사용자의 카카오 ID
+    // 세션 모드는 세션의 tempKakaoId, 토큰 모드는 등록용 token 으로 인증된 요청의 카카오 ID
+    // @return 카카오 ID (등록 중인 사용자가 아니면 null)
+    public String getRegisteringKakaoId() {
+        if (!isTokenMode()) {
+            return (String) httpSession.getAttribute("tempKakaoId");
+        }
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof RegistrationPrincipal registration) {
+            return registration.kakaoId();
+        }
+        return null;
+    }
+
+    private boolean isTokenMode() {
+        return "token".equals(authMode);
+    }
+
+    // 세션 모드에서만 세션에 저장 (토큰 모드에서 세션 프록시를 건드리면 세션이 생성됨)
+    private void storeInSession(String name, Object value) {
+        if (!isTokenMode()) {
+            httpSession.setAttribute(name, value);
+        }
+    }
 }
\ No newline at end of file
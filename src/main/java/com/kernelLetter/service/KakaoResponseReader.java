@@ -0,0 +1,51 @@
+package com.kernelLetter.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.kernelLetter.dto.KakaoTokenResponseDTO;
+import com.kernelLetter.dto.KakaoUserInfoDTO;
+import com.kernelLetter.dto.KakaoUserInfoResponseDTO;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+// 카카오 API 응답 JSON 파서
+// 요청마다 ObjectMapper 를 만들거나 Map 으로 전체를 파싱하지 않고,
+// 미리 만들어 둔 ObjectReader 로 필요한 필드만 DTO 에 바인딩 (ObjectReader 는 thread-safe)
+@Component
+public class KakaoResponseReader {
+
+    private final ObjectReader tokenReader;
+    private final ObjectReader userInfoReader;
+
+    public KakaoResponseReader(ObjectMapper objectMapper) {
+        this.tokenReader = objectMapper.readerFor(KakaoTokenResponseDTO.class);
+        this.userInfoReader = objectMapper.readerFor(KakaoUserInfoResponseDTO.class);
+    }
+
+
+    // 토큰 발급 응답에서 access_token 추출
+    // @param body 응답 바디
+    // @return Access Token (응답에 없으면 null)
+    public String readAccessToken(byte[] body) throws IOException {
+        KakaoTokenResponseDTO response = tokenReader.readValue(body);
+        return response.getAccessToken();
+    }
+
+
+    // 사용자 정보 응답에서 카카오 ID, 이메일 추출
+    // @param body 응답 바디
+    // @return 카카오 사용자 정보 DTO
+    public KakaoUserInfoDTO readUserInfo(byte[] body) throws IOException {
+        KakaoUserInfoResponseDTO response = userInfoReader.readValue(body);
+
+        // 이메일 정보 (동의하지 않았으면 없을 수 있음)
+        String kakaoEmail = response.getKakaoAccount() != null
+                ? response.getKakaoAccount().getEmail() : null;
+
+        return KakaoUserInfoDTO.builder()
+                .kakaoId(String.valueOf(response.getId()))
+                .kakaoEmail(kakaoEmail)
+                .build();
+    }
+}
@@ -1,6 +1,13 @@
 package com.kernelLetter.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kernelLetter.global.error.ErrorCode;
+import com.kernelLetter.global.error.exception.BusinessException;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -11,14 +18,23 @@ import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.RestTemplate;
 
-import java.util.Map;
+import java.io.IOException;
 
 /**
  * 카카오 인가코드를 Access Token 으로 교환하는 컴포넌트
  */
 @Component
+@RequiredArgsConstructor
 public class KakaoTokenProvider {
 
+    // 커넥션 풀을 공유하는 카카오 전용 HTTP 클라이언트 (KakaoClientConfig)
+    private final RestTemplate kakaoRestTemplate;
+    private final KakaoResponseReader kakaoResponseReader;
+
+    // 카카오 토큰 발급 API 엔드포인트
+    @Value("${kakao.token-uri:https://kauth.kakao.com/oauth/token}")
+    private String tokenUri;
+
     @Value("${kakao.client-id}")
     private String clientId;
 
@@ -30,16 +46,14 @@ public class KakaoTokenProvider {
 
 
     // 카카오 인가코드를 Access Token 으로 교환
+    // 인가코드는 한 번만 쓸 수 있으므로 재시도하지 않고 서킷 브레이커, 벌크헤드만 적용
     // @param code 카카오 로그인 후 받은 인가코드
     // @return Access Token 문자열
+    @CircuitBreaker(name = "kakaoToken", fallbackMethod = "unavailable")
+    @Bulkhead(name = "kakaoToken")
+    @Timed("kakao.token")
     public String getAccessToken(String code) {
 
-        // HTTP 요청을 보내기 위한 RestTemplate 생성
-        RestTemplate restTemplate = new RestTemplate();
-
-        // 카카오 토큰 발급 API 엔드포인트
-        String tokenUrl = "https://kauth.kakao.com/oauth/token";
-
         // 요청 파라미터 준비 (폼 데이터 형식)
         MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
         params.add("grant_type", "authorization_code");
@@ -57,30 +71,38 @@ public class KakaoTokenProvider {
         // 요청 객체 생성 (헤더 + 바디)
         HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(params, headers);
 
-        // POST 요청 전송 및 응답 받기 (JSON을 String 으로 받음)
-        ResponseEntity<String> response = restTemplate.postForEntity(
-                tokenUrl,
+        // POST 요청 전송 및 응답 받기 (바디는 바이트 그대로 받아 필요한 필드만 파싱)
+        ResponseEntity<byte[]> response = kakaoRestTemplate.postForEntity(
+                tokenUri,
                 request,
-                String.class  // 응답을 문자열로 받음
+                byte[].class
         );
 
+        if (response.getBody() == null) {
+            throw new RuntimeException("카카오 토큰 발급 실패: 응답이 비어있습니다.");
+        }
+
         // 응답 JSON 파싱하여 access_token 추출
+        String accessToken;
         try {
-            ObjectMapper objectMapper = new ObjectMapper();
-            // JSON 문자열을 Map 으로 변환
-            Map<String, Object> responseMap = objectMapper.readValue(response.getBody(), Map.class);
+            accessToken = kakaoResponseReader.readAccessToken(response.getBody());
+        } catch (IOException e) {
+            throw new RuntimeException("카카오 토큰 파싱 실패", e);
+        }
 
-            // access_token 추출 및 반환
-            String accessToken = (String) responseMap.get("access_token");
+        if (accessToken == null) {
+            throw new RuntimeException("카카오 토큰 발급 실패: access_token이 응답에 없습니다.");
+        }
 
-            if (accessToken == null) {
-                throw new RuntimeException("카카오 토큰 발급 실패: access_token이 응답에 없습니다.");
-            }
+        return accessToken;
+    }
 
-            return accessToken;
+    // 서킷이 열려 있거나 동시 호출 수를 초과하면 카카오를 호출하지 않고 바로 실패
+    private String unavailable(String code, CallNotPermittedException e) {
+        throw new BusinessException(ErrorCode.KAKAO_API_UNAVAILABLE);
+    }
 
-        } catch (Exception e) {
-            throw new RuntimeException("카카오 토큰 파싱 실패", e);
-        }
+    private String unavailable(String code, BulkheadFullException e) {
+        throw new BusinessException(ErrorCode.KAKAO_API_UNAVAILABLE);
     }
 }
@@ -1,6 +1,18 @@
 package com.kernelLetter.service;
 
 import com.kernelLetter.dto.KakaoUserInfoDTO;
+import com.kernelLetter.global.config.CacheConfig;
+import com.kernelLetter.global.error.ErrorCode;
+import com.kernelLetter.global.error.exception.BusinessException;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import io.github.resilience4j.retry.annotation.Retry;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -8,21 +20,31 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
-import java.util.Map;
+import java.io.IOException;
 
 @Component
+@RequiredArgsConstructor
 public class KakaoUserInfoProvider {
 
+    // 커넥션 풀을 공유하는 카카오 전용 HTTP 클라이언트 (KakaoClientConfig)
+    private final RestTemplate kakaoRestTemplate;
+    private final KakaoResponseReader kakaoResponseReader;
+
+    // 카카오 사용자 정보 조회 API 엔드포인트
+    @Value("${kakao.user-info-uri:https://kapi.kakao.com/v2/user/me}")
+    private String userInfoUri;
 
     // Access Token을 사용하여 카카오 사용자 정보 조회
+    // 조회는 멱등하므로 일시적인 오류는 지터를 준 간격으로 재시도
+    // 같은 토큰으로 다시 조회하면 잠깐 동안 캐시에서 반환 (동시에 조회하면 카카오 호출은 한 번만)
     // @param accessToken 카카오 Access Token
     // @return 카카오 사용자 정보 DTO
+    @Cacheable(cacheNames = CacheConfig.KAKAO_USER_INFO, keyGenerator = "accessTokenHashKeyGenerator", sync = true)
+    @Retry(name = "kakaoUserInfo")
+    @CircuitBreaker(name = "kakaoUserInfo", fallbackMethod = "unavailable")
+    @Bulkhead(name = "kakaoUserInfo")
+    @Timed("kakao.user-info")
     public KakaoUserInfoDTO getKakaoUserInfo(String accessToken) {
-        RestTemplate restTemplate = new RestTemplate();
-
-        // 카카오 사용자 정보 조회 API 엔드포인트
-        String url = "https://kapi.kakao.com/v2/user/me";
-
         // HTTP 헤더 설정
         HttpHeaders headers = new HttpHeaders();
 
@@ -35,35 +57,34 @@ public class KakaoUserInfoProvider {
         // 요청 객체 생성 (헤더만 있고 바디는 없음)
         HttpEntity<String> request = new HttpEntity<>(headers);
 
-        // GET 요청 전송
-        ResponseEntity<Map> response = restTemplate.exchange(
-                url,
+        // GET 요청 전송 (바디는 바이트 그대로 받아 필요한 필드만 파싱)
+        ResponseEntity<byte[]> response = kakaoRestTemplate.exchange(
+                userInfoUri,
                 HttpMethod.GET,
                 request,
-                Map.class  // 응답을 Map 으로 받음 (JSON 구조가 복잡하므로)
+                byte[].class
         );
 
-        // 응답 데이터 파싱
-        Map<String, Object> responseBody = response.getBody();
+        byte[] responseBody = response.getBody();
 
         if (responseBody == null) {
             throw new RuntimeException("카카오 사용자 정보 조회 실패: 응답이 비어있습니다.");
         }
 
-        // 카카오 고유 ID 추출 (Long 타입)
-        String kakaoId = String.valueOf(responseBody.get("id"));
-
-        // 카카오 계정 정보 추출
-        Map<String, Object> kakaoAccount = (Map<String, Object>) responseBody.get("kakao_account");
+        // 응답 데이터 파싱 (카카오 ID, 이메일)
+        try {
+            return kakaoResponseReader.readUserInfo(responseBody);
+        } catch (IOException e) {
+            throw new RuntimeException("카카오 사용자 정보 파싱 실패", e);
+        }
+    }
 
-        // 이메일 정보 추출 (없을 수도 있음)
-        String kakaoEmail = kakaoAccount != null ?
-                (String) kakaoAccount.get("email") : null;
+    // 서킷이 열려 있거나 동시 호출 수를 초과하면 카카오를 호출하지 않고 바로 실패
+    private KakaoUserInfoDTO unavailable(String accessToken, CallNotPermittedException e) {
+        throw new BusinessException(ErrorCode.KAKAO_API_UNAVAILABLE);
+    }
 
-        // DTO 생성 및 반환
-        return KakaoUserInfoDTO.builder()
-                .kakaoId(kakaoId)
-                .kakaoEmail(kakaoEmail)
-                .build();
+    private KakaoUserInfoDTO unavailable(String accessToken, BulkheadFullException e) {
+        throw new BusinessException(ErrorCode.KAKAO_API_UNAVAILABLE);
     }
 }
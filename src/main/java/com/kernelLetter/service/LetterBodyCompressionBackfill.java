@@ -0,0 +1,77 @@
+package com.kernelLetter.service;
+
+import com.kernelLetter.domain.converter.LetterContentConverter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 압축 도입 전에 저장된 편지 본문을 현재 저장 형식(LetterContentConverter)으로 다시 쓰는 작업
+// letter.body.compression-backfill.enabled=true 로 실행한 경우에만 애플리케이션 시작 시 한 번 수행
+// 요청을 받는 중에 실행되므로 읽은 뒤 다른 수정이 반영된 본문은 버전, 본문 조건으로 건너뜀 (그 수정이 이미 현재 형식으로 저장함)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "letter.body.compression-backfill.enabled", havingValue = "true")
+public class LetterBodyCompressionBackfill implements ApplicationRunner {
+
+    private static final int PAGE_SIZE = 500;
+
+    // 읽은 버전, 읽은 본문 그대로일 때만 다시 씀 (자동 저장 초안 반영은 버전을 올리지 않으므로 본문도 비교)
+    // 저장 형식만 바뀌고 내용은 같으므로 버전은 올리지 않음 (편지를 열어 둔 클라이언트의 수정이 충돌하지 않도록)
+    private static final String UPDATE_SQL =
+            "update letter_body set content = ? where letter_id = ? and version = ? and content = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long lastId = 0;
+        int rewritten = 0;
+        int skipped = 0;
+
+        while (true) {
+            // letter_id 기준 keyset 으로 한 페이지씩 조회
+            List<StoredBody> page = jdbcTemplate.query(
+                    "select letter_id, content, version from letter_body where letter_id > ? order by letter_id limit ?",
+                    (rs, rowNum) -> new StoredBody(rs.getLong("letter_id"), rs.getBytes("content"), rs.getLong("version")),
+                    lastId, PAGE_SIZE);
+
+            if (page.isEmpty()) {
+                break;
+            }
+
+            List<Object[]> updates = new ArrayList<>();
+            for (StoredBody body : page) {
+                if (LetterContentConverter.needsRewrite(body.content())) {
+                    byte[] encoded = LetterContentConverter.encode(LetterContentConverter.decode(body.content()));
+                    updates.add(new Object[]{encoded, body.letterId(), body.version(), body.content()});
+                }
+            }
+
+            if (!updates.isEmpty()) {
+                for (int count : jdbcTemplate.batchUpdate(UPDATE_SQL, updates)) {
+                    if (count == 0) {
+                        skipped++;
+                    } else {
+                        rewritten++;
+                    }
+                }
+            }
+
+            lastId = page.get(page.size() - 1).letterId();
+        }
+
+        log.info("letter body compression backfill finished: {} rows rewritten, {} rows skipped (modified concurrently)",
+                rewritten, skipped);
+    }
+
+    private record StoredBody(long letterId, byte[] content, long version) {
+    }
+}
@@ -0,0 +1,202 @@
+package com.kernelLetter.service;
+
+import com.kernelLetter.domain.converter.LetterContentConverter;
+import com.kernelLetter.dto.LetterPairDto;
+import com.kernelLetter.dto.LetterPatchDto;
+import com.kernelLetter.global.error.ErrorCode;
+import com.kernelLetter.global.error.exception.BusinessException;
+import com.kernelLetter.repository.LetterBodyRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 편지 자동 저장(초안) 쓰기 지연 버퍼
+// 자동 저장 요청은 (보낸 사람, 받는 사람) 별 마지막 본문만 메모리에 남기고, 주기적으로 모아서 JDBC 배치 UPDATE 한 번으로 반영
+// 짧은 간격으로 여러 번 저장해도 DB 에는 flush 주기마다 한 번만 기록됨
+//
+// 버퍼는 stripe 로 나눠서 stripe 마다 락을 둠
+// - 자동 저장(saveDraft)은 락 없이 ConcurrentHashMap 에 덮어쓰기만 함
+// - flush 는 stripe 락 안에서 실행, 명시적 저장(save)은 락 안에서 초안만 버리고 DB 저장은 락 밖에서 실행
+//
+// 초안은 처음 버퍼에 들어올 때의 본문 버전(LetterBody.version)을 기준으로 하고, flush 는 그 버전일 때만 반영
+// 그 사이 명시적 저장이 먼저 반영되었으면 이 초안은 버림 (이미 저장된 내용을 덮어쓰지 않음)
+// 초안 반영은 버전을 올리지 않음 (편지를 열었을 때 받은 버전으로 자동 저장 후에도 명시적 저장 가능)
+// 서버가 비정상 종료되면 마지막 flush 이후의 초안은 유실될 수 있음 (정상 종료 시에는 @PreDestroy 에서 flush)
+@Slf4j
+@Component
+public class LetterDraftBuffer {
+
+    // 초안의 기준 버전일 때만 반영 (버전은 그대로 두어 같은 사용자의 명시적 저장이 충돌하지 않게 함)
+    private static final String UPDATE_SQL =
+            "update letter_body set content = ? " +
+            "where letter_id = (select id from letter where sender = ? and receiver = ?) and version = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LetterService letterService;
+    private final LetterBodyRepository letterBodyRepository;
+    private final Stripe[] stripes;
+
+    // @param stripeCount 버퍼 stripe 수 (명시적 저장과 flush 가 서로 기다리는 범위)
+    public LetterDraftBuffer(JdbcTemplate jdbcTemplate,
+                             LetterService letterService,
+                             LetterBodyRepository letterBodyRepository,
+                             @Value("${letter.draft.stripes:16}") int stripeCount) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.letterService = letterService;
+        this.letterBodyRepository = letterBodyRepository;
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    // 자동 저장 (DB 에는 다음 flush 때 반영)
+    // 처음 버퍼에 들어올 때만 본문 버전을 조회하고 (편지가 없으면 LETTER_NOT_EXISTS), 이후 초안은 본문만 교체
+    // @param receiverId 편지를 받는 사용자 ID
+    // @param dto 보낸 사람 ID, 초안 본문
+    public void saveDraft(Long receiverId, LetterPatchDto dto) {
+        LetterPairDto pair = new LetterPairDto(dto.getSenderId(), receiverId);
+        Map<LetterPairDto, Draft> drafts = stripeOf(pair).drafts;
+
+        // flush 가 그 사이 초안을 반영하거나 기준 버전을 옮겼으면 다시 시도
+        while (true) {
+            Draft current = drafts.get(pair);
+            if (current == null) {
+                Long version = letterBodyRepository.findVersion(dto.getSenderId(), receiverId)
+                        .orElseThrow(() -> new BusinessException(ErrorCode.LETTER_NOT_EXISTS));
+                if (drafts.putIfAbsent(pair, new Draft(dto.getContent(), version)) == null) {
+                    return;
+                }
+            } else if (drafts.replace(pair, current, new Draft(dto.getContent(), current.version()))) {
+                return;
+            }
+        }
+    }
+
+    // 명시적 저장 (대기 중인 초안은 버리고 요청 본문을 바로 저장)
+    // 초안 제거만 stripe 락 안에서 하고 (진행 중인 flush 가 끝날 때까지 대기), DB 저장은 락을 놓은 뒤 실행
+    // 저장 중에 새로 들어온 초안은 저장 전 버전을 기준으로 하면 flush 때 버전이 달라 버려짐
+    // @param receiverId 편지를 받는 사용자 ID
+    // @param dto 보낸 사람 ID, 본문, 기대 버전
+    public void save(Long receiverId, LetterPatchDto dto) {
+        LetterPairDto pair = new LetterPairDto(dto.getSenderId(), receiverId);
+        Stripe stripe = stripeOf(pair);
+
+        stripe.lock.lock();
+        try {
+            stripe.drafts.remove(pair);
+        } finally {
+            stripe.lock.unlock();
+        }
+        letterService.patch(receiverId, dto);
+    }
+
+    @Scheduled(fixedDelayString = "${letter.draft.flush-interval:5s}")
+    public void flushPeriodically() {
+        flush();
+    }
+
+    // 쌓인 초안을 stripe 별로 모아서 배치 UPDATE
+    // @return DB 에 반영한 초안 수
+    public int flush() {
+        int flushed = 0;
+        for (Stripe stripe : stripes) {
+            flushed += flush(stripe);
+        }
+        return flushed;
+    }
+
+    // 종료 시 남은 초안 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        int flushed = flush();
+        log.info("letter draft buffer flushed on shutdown: {} drafts", flushed);
+    }
+
+    // @return 아직 DB 에 반영하지 않은 초안 수
+    public int pendingCount() {
+        int pending = 0;
+        for (Stripe stripe : stripes) {
+            pending += stripe.drafts.size();
+        }
+        return pending;
+    }
+
+    private int flush(Stripe stripe) {
+        if (stripe.drafts.isEmpty()) {
+            return 0;
+        }
+
+        stripe.lock.lock();
+        try {
+            // 반영할 초안을 버퍼에 둔 채로 모아서 UPDATE (실패하면 그대로 남아 다음 flush 때 다시 시도)
+            List<LetterPairDto> pairs = new ArrayList<>(stripe.drafts.keySet());
+            List<Draft> flushing = new ArrayList<>(pairs.size());
+            List<Object[]> updates = new ArrayList<>(pairs.size());
+            for (LetterPairDto pair : pairs) {
+                Draft draft = stripe.drafts.get(pair);
+                flushing.add(draft);
+                updates.add(new Object[]{LetterContentConverter.encode(draft.content()),
+                        pair.getSenderId(), pair.getReceiverId(), draft.version()});
+            }
+            if (updates.isEmpty()) {
+                return 0;
+            }
+
+            int[] counts;
+            try {
+                counts = jdbcTemplate.batchUpdate(UPDATE_SQL, updates);
+            } catch (DataAccessException e) {
+                log.warn("letter draft flush failed, {} drafts will be retried", updates.size(), e);
+                return 0;
+            }
+
+            int flushed = 0;
+            int discarded = 0;
+            for (int i = 0; i < pairs.size(); i++) {
+                Draft draft = flushing.get(i);
+                if (counts[i] == 0) {
+                    // 기준 버전 이후 다른 저장이 먼저 반영됨 (편지 삭제 포함)
+                    // 그 사이 들어온 초안도 같은 기준 버전이므로 함께 버림
+                    stripe.drafts.computeIfPresent(pairs.get(i),
+                            (pair, current) -> current.version() == draft.version() ? null : current);
+                    discarded++;
+                    continue;
+                }
+                // 반영한 초안만 제거 (그 사이 들어온 초안은 같은 기준 버전으로 다음 flush 때 반영)
+                stripe.drafts.remove(pairs.get(i), draft);
+                flushed++;
+            }
+
+            if (discarded > 0) {
+                log.info("letter draft flush discarded {} drafts saved elsewhere first", discarded);
+            }
+            return flushed;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    private Stripe stripeOf(LetterPairDto pair) {
+        return stripes[Math.floorMod(pair.hashCode(), stripes.length)];
+    }
+
+    private static class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<LetterPairDto, Draft> drafts = new ConcurrentHashMap<>();
+    }
+
+    // 초안 본문과 기준 본문 버전
+    private record Draft(String content, long version) {
+    }
+}
@@ -1,55 +1,219 @@
 package com.kernelLetter.service;
 
 import com.kernelLetter.domain.entity.Letter;
+import com.kernelLetter.domain.entity.LetterBody;
 import com.kernelLetter.domain.entity.User;
+import com.kernelLetter.dto.LetterBatchResultDto;
+import com.kernelLetter.dto.LetterDetailDto;
+import com.kernelLetter.dto.LetterInboxDto;
+import com.kernelLetter.dto.LetterInboxPageDto;
+import com.kernelLetter.dto.LetterPairDto;
 import com.kernelLetter.dto.LetterPatchDto;
 import com.kernelLetter.dto.LetterSendDto;
 import com.kernelLetter.global.error.exception.BusinessException;
 import com.kernelLetter.global.error.ErrorCode;
 import com.kernelLetter.global.error.exception.BusinessException;
+import com.kernelLetter.repository.LetterBodyRepository;
 import com.kernelLetter.repository.LetterRepository;
 import com.kernelLetter.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import com.kernelLetter.global.error.ErrorCode;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// 조회 메서드는 readOnly 트랜잭션 (Hibernate 세션을 FlushMode.MANUAL / 읽기 전용으로 열어 dirty checking, flush 생략)
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class LetterService {
 
+    private static final int MAX_INBOX_PAGE_SIZE = 100;
+    private static final int MAX_BATCH_SIZE = 100;
+
     private final LetterRepository letterRepository;
+    private final LetterBodyRepository letterBodyRepository;
     private final UserRepository userRepository;
 
+    @Timed("letter.send")
     public void sendLetter(LetterSendDto dto) {
-        User sender = userRepository.findById(dto.getSenderId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_EXISTS));
+        // 회원 엔티티를 조회하지 않고 참조(프록시)만 연결 (SELECT 없음)
+        User sender = userRepository.getReferenceById(dto.getSenderId());
+        User receiver = userRepository.getReferenceById(dto.getReceiverId());
 
-        User receiver = userRepository.findById(dto.getReceiverId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_EXISTS));
+        // 회원 존재 여부는 외래 키, 중복 여부는 (sender, receiver) 유니크 제약으로 판단
+        // INSERT 한 번으로 처리하여 조회 후 저장 시의 경쟁 조건 제거
+        try {
+            Letter letter = letterRepository.save(Letter.from(sender, receiver));
+            letterBodyRepository.save(LetterBody.of(letter, dto.getContent()));
+            letterRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            if (isViolationOf(e, Letter.UK_SENDER_RECEIVER)) {
+                throw new BusinessException(ErrorCode.LETTER_ALREADY_EXISTS);
+            }
+            if (isViolationOf(e, Letter.FK_SENDER) || isViolationOf(e, Letter.FK_RECEIVER)) {
+                throw new BusinessException(ErrorCode.USER_NOT_EXISTS);
+            }
+            throw e;
+        }
+    }
 
-        // 이미 편지가 존재하는지 확인
-        if (letterRepository.existsBySenderIdAndReceiverId(dto.getSenderId(), dto.getReceiverId())) {
-            throw new BusinessException(ErrorCode.LETTER_ALREADY_EXISTS);
+    // 편지 일괄 작성
+    // 회원 존재 여부와 중복 편지를 각각 쿼리 한 번으로 확인한 뒤 통과한 편지만 배치 INSERT
+    // @param dtos 작성할 편지 목록
+    // @return 편지별 처리 결과 (요청 순서 유지)
+    @Timed("letter.send.batch")
+    public List<LetterBatchResultDto> sendLetters(List<LetterSendDto> dtos) {
+        if (dtos.isEmpty()) {
+            return List.of();
         }
-        else{
-            letterRepository.save(Letter.from(sender, receiver, dto.getContent()));
+        if (dtos.size() > MAX_BATCH_SIZE) {
+            throw new BusinessException(ErrorCode.LETTER_BATCH_TOO_LARGE);
         }
+
+        Set<Long> senderIds = collectIds(dtos.stream().map(LetterSendDto::getSenderId));
+        Set<Long> receiverIds = collectIds(dtos.stream().map(LetterSendDto::getReceiverId));
+
+        // 보낸 사람, 받는 사람을 IN 쿼리 한 번으로 확인
+        Set<Long> existingUserIds = new HashSet<>(userRepository.findExistingIds(
+                collectIds(Stream.concat(senderIds.stream(), receiverIds.stream()))));
+
+        // 이미 작성된 편지를 한 번에 조회 (요청 안에서의 중복도 함께 걸러냄)
+        Set<LetterPairDto> writtenPairs = new HashSet<>(letterRepository.findPairs(senderIds, receiverIds));
+
+        List<LetterBatchResultDto> results = new ArrayList<>(dtos.size());
+        List<Letter> letters = new ArrayList<>(dtos.size());
+        List<LetterBody> bodies = new ArrayList<>(dtos.size());
+
+        for (LetterSendDto dto : dtos) {
+            if (!existingUserIds.contains(dto.getSenderId()) || !existingUserIds.contains(dto.getReceiverId())) {
+                results.add(LetterBatchResultDto.rejected(dto, ErrorCode.USER_NOT_EXISTS));
+                continue;
+            }
+            if (!writtenPairs.add(new LetterPairDto(dto.getSenderId(), dto.getReceiverId()))) {
+                results.add(LetterBatchResultDto.rejected(dto, ErrorCode.LETTER_ALREADY_EXISTS));
+                continue;
+            }
+
+            Letter letter = Letter.from(
+                    userRepository.getReferenceById(dto.getSenderId()),
+                    userRepository.getReferenceById(dto.getReceiverId()));
+            letters.add(letter);
+            bodies.add(LetterBody.of(letter, dto.getContent()));
+            results.add(LetterBatchResultDto.sent(dto));
+        }
+
+        // hibernate.jdbc.batch_size 단위로 묶어서 INSERT
+        try {
+            letterRepository.saveAll(letters);
+            letterBodyRepository.saveAll(bodies);
+            letterRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            // 확인 이후 다른 요청이 같은 편지를 먼저 작성한 경우
+            if (isViolationOf(e, Letter.UK_SENDER_RECEIVER)) {
+                throw new BusinessException(ErrorCode.LETTER_ALREADY_EXISTS);
+            }
+            throw e;
+        }
+
+        return results;
     }
 
+    // 편지 수정 (본문을 읽지 않고 UPDATE 한 번으로 처리)
+    // 기대 버전(dto.version)을 보내면 그 사이 다른 수정이 있었는지 비관적 잠금 없이 확인
+    @Timed("letter.patch")
     public void patch(Long receiverId, LetterPatchDto dto) {
-        Letter letter = letterRepository.findBySenderIdAndReceiverId(dto.getSenderId(), receiverId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.LETTER_NOT_EXISTS));
+        int updated = (dto.getVersion() == null)
+                ? letterBodyRepository.updateContent(dto.getSenderId(), receiverId, dto.getContent())
+                : letterBodyRepository.updateContentIfVersion(dto.getSenderId(), receiverId, dto.getContent(), dto.getVersion());
+
+        if (updated == 1) {
+            return;
+        }
 
-        letter.setContent(dto);
+        // 수정되지 않은 경우에만 원인 확인 (편지가 없음 / 다른 수정이 먼저 반영됨)
+        if (dto.getVersion() != null && letterRepository.existsBySenderIdAndReceiverId(dto.getSenderId(), receiverId)) {
+            throw new BusinessException(ErrorCode.LETTER_VERSION_CONFLICT);
+        }
+        throw new BusinessException(ErrorCode.LETTER_NOT_EXISTS);
+    }
+
+    // 편지 삭제 (보낸 사람 본인만 가능, 본문은 letter_body 의 ON DELETE CASCADE 로 함께 삭제)
+    // 다른 사람의 편지도 LETTER_NOT_EXISTS 로 응답해 편지 존재 여부를 드러내지 않음
+    // @param letterId 삭제할 편지 ID
+    // @param senderId 로그인한 사용자 ID
+    @Timed("letter.delete")
+    public void delete(Long letterId, Long senderId) {
+        if (letterRepository.deleteBySender(letterId, senderId) == 0) {
+            throw new BusinessException(ErrorCode.LETTER_NOT_EXISTS);
+        }
     }
 
-    public void delete(Long letterId) {
+    // 편지 일괄 삭제 (DELETE 한 번, 없거나 본인이 보낸 편지가 아닌 ID 는 건너뜀)
+    // @param letterIds 삭제할 편지 ID 목록
+    // @param senderId 로그인한 사용자 ID
+    // @return 삭제된 편지 수
+    @Timed("letter.delete.batch")
+    public int deleteAll(List<Long> letterIds, Long senderId) {
+        Set<Long> ids = collectIds(letterIds.stream());
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        if (ids.size() > MAX_BATCH_SIZE) {
+            throw new BusinessException(ErrorCode.LETTER_BATCH_TOO_LARGE);
+        }
+
+        return letterRepository.deleteAllBySender(ids, senderId);
+    }
 
-        Letter letter = letterRepository.findById(letterId)
+    // 편지 한 통 열람 (본문은 이때만 조회)
+    // 보낸 사람, 받는 사람이 아니면 LETTER_NOT_EXISTS 로 응답해 편지 존재 여부를 드러내지 않음
+    // @param letterId 열람할 편지 ID
+    // @param userId 로그인한 사용자 ID
+    @Transactional(readOnly = true)
+    public LetterDetailDto findLetter(Long letterId, Long userId) {
+        return letterBodyRepository.findDetailById(letterId, userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.LETTER_NOT_EXISTS));
+    }
+
+    // 받은 편지함 조회 (keyset 페이지네이션)
+    // @param receiverId 편지를 받은 사용자 ID
+    // @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+    // @param size 페이지 크기 (1 ~ 100)
+    @Transactional(readOnly = true)
+    public LetterInboxPageDto findInbox(Long receiverId, Long cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_INBOX_PAGE_SIZE);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<LetterInboxDto> letters = (cursor == null)
+                ? letterRepository.findInbox(receiverId, limit)
+                : letterRepository.findInboxBefore(receiverId, cursor, limit);
+
+        return LetterInboxPageDto.of(letters, pageSize);
+    }
+
+    private static Set<Long> collectIds(Stream<Long> ids) {
+        return ids.filter(Objects::nonNull).collect(Collectors.toSet());
+    }
 
-        letterRepository.delete(letter);
+    // 제약 조건 이름으로 어떤 제약을 위반했는지 확인 (MySQL, H2 모두 메시지에 제약 이름 포함)
+    private static boolean isViolationOf(DataIntegrityViolationException e, String constraintName) {
+        String message = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+        return message != null && message.toLowerCase(Locale.ROOT).contains(constraintName);
     }
 }
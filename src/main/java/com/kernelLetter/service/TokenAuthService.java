@@ -0,0 +1,63 @@
+package com.kernelLetter.service;
+
+import com.kernelLetter.domain.entity.User;
+import com.kernelLetter.dto.AuthTokenDto;
+import com.kernelLetter.dto.SessionUser;
+import com.kernelLetter.dto.UserSnapshot;
+import com.kernelLetter.global.error.ErrorCode;
+import com.kernelLetter.global.error.exception.BusinessException;
+import com.kernelLetter.global.security.JwtTokenProvider;
+import com.kernelLetter.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 토큰 인증 모드(auth.mode=token)에서 로그인 / 재발급 시 토큰 발급
+// DB 조회는 로그인(캐시 미스)과 재발급 시점에만 하고, 이후 요청은 토큰만으로 사용자 식별
+@Service
+@ConditionalOnProperty(name = "auth.mode", havingValue = "token")
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class TokenAuthService {
+
+    private final UserRepository userRepository;
+    private final UserService userService;
+    private final JwtTokenProvider jwtTokenProvider;
+
+
+    // 로그인 또는 추가 정보 등록 후 토큰 발급
+    // @param kakaoId 카카오 ID
+    // @return access / refresh token
+    public AuthTokenDto issueTokens(String kakaoId) {
+        UserSnapshot user = userService.findSnapshotByKakaoId(kakaoId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_EXISTS));
+        return issue(user.toSessionUser());
+    }
+
+
+    // 첫 로그인 사용자에게 추가 정보 등록용 token 발급 (access / refresh token 은 등록 후 발급)
+    // @param kakaoId 카카오 ID
+    // @return 등록용 token
+    public String issueRegistrationToken(String kakaoId) {
+        return jwtTokenProvider.createRegistrationToken(kakaoId);
+    }
+
+
+    // refresh token 으로 토큰 재발급 (최신 사용자 정보를 담아 새로 발급)
+    // @param refreshToken refresh token
+    // @return 새 access / refresh token
+    public AuthTokenDto refresh(String refreshToken) {
+        Long userId = jwtTokenProvider.parseRefreshToken(refreshToken);
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.REFRESH_TOKEN_NOT_FOUND));
+        return issue(SessionUser.fromUser(user));
+    }
+
+    private AuthTokenDto issue(SessionUser sessionUser) {
+        return new AuthTokenDto(
+                jwtTokenProvider.createAccessToken(sessionUser),
+                jwtTokenProvider.createRefreshToken(sessionUser.getId()));
+    }
+}
@@ -1,14 +1,43 @@
 package com.kernelLetter.service;
 
+import com.kernelLetter.dto.UserSnapshot;
+import com.kernelLetter.global.config.CacheConfig;
+import com.kernelLetter.global.error.ErrorCode;
+import com.kernelLetter.global.error.exception.BusinessException;
 import com.kernelLetter.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class UserService {
     private final UserRepository userRepository;
 
+    // 카카오 ID 로 사용자 정보 조회 (재로그인 사용자는 DB 조회 없이 캐시에서 반환)
+    // 추가 정보 입력 전인 사용자는 곧 정보가 바뀌므로 캐시하지 않음
+    // @param kakaoId 카카오 ID
+    // @return 사용자 정보 (가입하지 않은 사용자면 empty)
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.USER_SNAPSHOT_BY_KAKAO_ID, unless = "#result == null || #result.firstLogin")
+    public Optional<UserSnapshot> findSnapshotByKakaoId(String kakaoId) {
+        return userRepository.findByKakaoId(kakaoId).map(UserSnapshot::from);
+    }
+
+    // 처음 로그인한 카카오 계정 가입 (추가 정보 입력 대기 상태)
+    // find-then-save 대신 upsert 를 사용해 동시에 가입 요청이 와도 한 행만 생성
+    // @param kakaoId 카카오 ID
+    // @param kakaoEmail 카카오 계정 이메일
+    // @return 가입된 (또는 이미 있던) 사용자 정보
+    public UserSnapshot registerIfAbsent(String kakaoId, String kakaoEmail) {
+        userRepository.insertIfAbsent(kakaoId, kakaoEmail);
+
+        return userRepository.findByKakaoId(kakaoId)
+                .map(UserSnapshot::from)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_EXISTS));
+    }
 }
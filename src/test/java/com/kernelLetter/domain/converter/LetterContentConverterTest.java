@@ -0,0 +1,59 @@
+package com.kernelLetter.domain.converter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * LetterContentConverter 단위 테스트
+ */
+class LetterContentConverterTest {
+
+    private final LetterContentConverter converter = new LetterContentConverter();
+
+    @Test
+    @DisplayName("짧은 본문 - 압축하지 않고 원문 헤더로 저장")
+    void shortContent_StoredRaw() {
+        // given
+        String content = "안녕하세요, 고마웠어요!";
+
+        // when
+        byte[] stored = converter.convertToDatabaseColumn(content);
+
+        // then
+        assertThat(stored[0]).isEqualTo((byte) 0x00);
+        assertThat(converter.convertToEntityAttribute(stored)).isEqualTo(content);
+    }
+
+    @Test
+    @DisplayName("긴 본문 - 압축해서 저장하고 그대로 복원")
+    void longContent_Compressed() {
+        // given
+        String content = "함께 밤새 코딩하던 날들이 아직도 생생하게 기억나요. ".repeat(40);
+        int utf8Length = content.getBytes(StandardCharsets.UTF_8).length;
+
+        // when
+        byte[] stored = converter.convertToDatabaseColumn(content);
+
+        // then
+        assertThat(stored[0]).isEqualTo((byte) 0x01);
+        assertThat(stored.length).isLessThan(utf8Length);
+        assertThat(converter.convertToEntityAttribute(stored)).isEqualTo(content);
+        assertThat(LetterContentConverter.needsRewrite(stored)).isFalse();
+    }
+
+    @Test
+    @DisplayName("헤더가 없는 기존 데이터 - UTF-8 원문으로 읽고 다시 쓰기 대상으로 판단")
+    void legacyContent_ReadAsUtf8() {
+        // given
+        String content = "압축 도입 전에 저장된 편지";
+        byte[] legacy = content.getBytes(StandardCharsets.UTF_8);
+
+        // when & then
+        assertThat(converter.convertToEntityAttribute(legacy)).isEqualTo(content);
+        assertThat(LetterContentConverter.needsRewrite(legacy)).isTrue();
+    }
+}
@@ -0,0 +1,109 @@
+package com.kernelLetter.global.security;
+
+import com.kernelLetter.dto.SessionUser;
+import com.kernelLetter.global.error.ErrorCode;
+import com.kernelLetter.global.error.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * JwtTokenProvider 단위 테스트
+ */
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "a2VybmVsTGV0dGVyLXRlc3QtdG9rZW4tc2VjcmV0LWtleS0wMTIz";
+
+    private final JwtTokenProvider jwtTokenProvider =
+            new JwtTokenProvider(SECRET, Duration.ofMinutes(30), Duration.ofDays(14), Duration.ofMinutes(10));
+
+    private final SessionUser sessionUser = SessionUser.builder()
+            .id(1L)
+            .kakaoId("123456789")
+            .kakaoEmail("test@kakao.com")
+            .name("테스트유저")
+            .email("test@example.com")
+            .build();
+
+    @Test
+    @DisplayName("access token - 발급한 토큰에서 사용자 정보 복원")
+    void accessToken_RoundTrip() {
+        // when
+        String token = jwtTokenProvider.createAccessToken(sessionUser);
+
+        // then
+        assertThat(jwtTokenProvider.parseAccessToken(token)).usingRecursiveComparison().isEqualTo(sessionUser);
+    }
+
+    @Test
+    @DisplayName("refresh token - 사용자 ID 복원, access token 으로는 사용 불가")
+    void refreshToken() {
+        // when
+        String token = jwtTokenProvider.createRefreshToken(1L);
+
+        // then
+        assertThat(jwtTokenProvider.parseRefreshToken(token)).isEqualTo(1L);
+        assertThatThrownBy(() -> jwtTokenProvider.parseAccessToken(token))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.NOT_ACCESS_TOKEN_TYPE);
+    }
+
+    @Test
+    @DisplayName("등록용 token - 카카오 ID 만 복원, access token 으로는 사용 불가")
+    void registrationToken() {
+        // when
+        String token = jwtTokenProvider.createRegistrationToken("123456789");
+
+        // then
+        assertThat(jwtTokenProvider.parsePrincipal(token)).isEqualTo(new RegistrationPrincipal("123456789"));
+        assertThat(jwtTokenProvider.parsePrincipal(jwtTokenProvider.createAccessToken(sessionUser)))
+                .usingRecursiveComparison().isEqualTo(sessionUser);
+        assertThatThrownBy(() -> jwtTokenProvider.parseAccessToken(token))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.NOT_ACCESS_TOKEN_TYPE);
+    }
+
+    @Test
+    @DisplayName("만료된 access token - TOKEN_EXPIRED")
+    void expiredAccessToken() {
+        // given
+        JwtTokenProvider expiredProvider =
+                new JwtTokenProvider(SECRET, Duration.ofSeconds(-1), Duration.ofSeconds(-1), Duration.ofSeconds(-1));
+
+        // when & then
+        assertThatThrownBy(() -> expiredProvider.parseAccessToken(expiredProvider.createAccessToken(sessionUser)))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.TOKEN_EXPIRED);
+        assertThatThrownBy(() -> expiredProvider.parseRefreshToken(expiredProvider.createRefreshToken(1L)))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.REFRESH_TOKEN_EXPIRED);
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명했거나 변조된 토큰 - NOT_VALID_TOKEN")
+    void invalidToken() {
+        // given
+        JwtTokenProvider otherProvider = new JwtTokenProvider(
+                "b3RoZXIta2VybmVsTGV0dGVyLXRva2VuLXNlY3JldC1rZXktNDU2Nzg=", Duration.ofMinutes(30), Duration.ofDays(14),
+                Duration.ofMinutes(10));
+        String otherToken = otherProvider.createAccessToken(sessionUser);
+
+        // when & then
+        assertThatThrownBy(() -> jwtTokenProvider.parseAccessToken(otherToken))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.NOT_VALID_TOKEN);
+        assertThatThrownBy(() -> jwtTokenProvider.parseAccessToken("not-a-token"))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.NOT_VALID_TOKEN);
+    }
+}
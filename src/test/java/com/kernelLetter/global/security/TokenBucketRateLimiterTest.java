@@ -0,0 +1,153 @@
+package com.kernelLetter.global.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TokenBucketRateLimiter 단위 테스트
+ * 시계를 직접 움직여서 버킷 소진 / 충전 / 오래 쓰지 않은 버킷 정리 / 버킷 수 제한 확인
+ */
+class TokenBucketRateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+
+    // 버킷 3개, 1초마다 하나씩 충전, 1분 동안 가득 차 있으면 정리
+    private final TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(
+            3, Duration.ofSeconds(1), Duration.ofMinutes(1), 10_000, 4, now::get);
+
+    @Test
+    @DisplayName("버킷 크기만큼 연속 허용 후 거절, 다음 토큰까지 남은 시간 반환")
+    void tryAcquire_ExhaustAndRefill() {
+        // when & then
+        assertThat(limiter.tryAcquire("user:1")).isZero();
+        assertThat(limiter.tryAcquire("user:1")).isZero();
+        assertThat(limiter.tryAcquire("user:1")).isZero();
+        assertThat(limiter.tryAcquire("user:1")).isEqualTo(Duration.ofSeconds(1).toNanos());
+
+        // 0.4초 뒤에는 아직 토큰이 없음
+        now.addAndGet(Duration.ofMillis(400).toNanos());
+        assertThat(limiter.tryAcquire("user:1")).isEqualTo(Duration.ofMillis(600).toNanos());
+
+        // 1초 뒤에는 토큰 하나만 충전
+        now.addAndGet(Duration.ofMillis(600).toNanos());
+        assertThat(limiter.tryAcquire("user:1")).isZero();
+        assertThat(limiter.tryAcquire("user:1")).isPositive();
+    }
+
+    @Test
+    @DisplayName("오래 쉬어도 버킷 크기 이상으로 쌓이지 않음")
+    void tryAcquire_CappedAtCapacity() {
+        // given
+        limiter.tryAcquire("user:1");
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        // when & then
+        assertThat(limiter.tryAcquire("user:1")).isZero();
+        assertThat(limiter.tryAcquire("user:1")).isZero();
+        assertThat(limiter.tryAcquire("user:1")).isZero();
+        assertThat(limiter.tryAcquire("user:1")).isPositive();
+    }
+
+    @Test
+    @DisplayName("키마다 버킷을 따로 사용")
+    void tryAcquire_SeparateBucketPerKey() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("user:1");
+        }
+
+        // when & then
+        assertThat(limiter.tryAcquire("user:1")).isPositive();
+        assertThat(limiter.tryAcquire("ip:127.0.0.1")).isZero();
+    }
+
+    @Test
+    @DisplayName("가득 찬 채로 idleTimeout 이 지난 버킷은 정리, 아직 충전 중인 버킷은 유지")
+    void tryAcquire_EvictsIdleBuckets() {
+        // given: 100명이 한 번씩 요청, user:busy 는 그 뒤로도 1초마다 계속 요청
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire("user:" + i);
+        }
+        for (int i = 0; i < 59; i++) {
+            now.addAndGet(Duration.ofSeconds(1).toNanos());
+            limiter.tryAcquire("user:busy");
+        }
+        assertThat(limiter.size()).isEqualTo(101);
+
+        // when: 정리 주기(1분)가 지난 뒤 모든 shard 에 요청
+        now.addAndGet(Duration.ofSeconds(2).toNanos());
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire("user:new-" + i);
+        }
+
+        // then: 쉬고 있던 100명의 버킷만 제거
+        assertThat(limiter.size()).isEqualTo(101);
+        assertThat(limiter.tryAcquire("user:busy")).isZero();
+    }
+
+    @Test
+    @DisplayName("버킷 수가 가득 차면 가득 찬 버킷을 정리하고, 그래도 자리가 없으면 새 키는 거절")
+    void tryAcquire_BoundedBuckets() {
+        // given: shard 하나에 버킷 4개까지, 4명이 토큰을 하나씩 사용 (아직 충전 중)
+        TokenBucketRateLimiter bounded = new TokenBucketRateLimiter(
+                3, Duration.ofSeconds(1), Duration.ofMinutes(1), 4, 1, now::get);
+        for (int i = 0; i < 4; i++) {
+            assertThat(bounded.tryAcquire("ip:" + i)).isZero();
+        }
+
+        // when & then: 정리할 버킷이 없으므로 새 키는 거절, 기존 키는 그대로 허용
+        assertThat(bounded.tryAcquire("ip:new")).isEqualTo(Duration.ofSeconds(1).toNanos());
+        assertThat(bounded.tryAcquire("ip:0")).isZero();
+        assertThat(bounded.size()).isEqualTo(4);
+
+        // when & then: 2초 뒤에는 모두 가득 찼으므로 정리되고 새 키 허용
+        now.addAndGet(Duration.ofSeconds(2).toNanos());
+        assertThat(bounded.tryAcquire("ip:new")).isZero();
+        assertThat(bounded.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("정리와 토큰 사용이 동시에 일어나도 사용한 토큰이 사라지지 않음")
+    void tryAcquire_SweepDoesNotLoseConsumption() throws Exception {
+        // given: 토큰 1개, 충전 없음(시계 고정), 요청마다 가득 찬 버킷 정리
+        TokenBucketRateLimiter sweeping = new TokenBucketRateLimiter(
+                1, Duration.ofHours(1), Duration.ZERO, 10_000, 1, now::get);
+        int threads = 8;
+        int attempts = 20_000;
+
+        // when: 같은 키로 동시에 요청
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            tasks.add(() -> {
+                int allowed = 0;
+                for (int i = 0; i < attempts; i++) {
+                    if (sweeping.tryAcquire("ip:127.0.0.1") == 0) {
+                        allowed++;
+                    }
+                }
+                return allowed;
+            });
+        }
+
+        int allowed = 0;
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (Future<Integer> result : executor.invokeAll(tasks)) {
+                allowed += result.get();
+            }
+        }
+
+        // then: 토큰을 사용한 버킷은 정리되지 않으므로 한 번만 허용
+        assertThat(allowed).isEqualTo(1);
+    }
+}
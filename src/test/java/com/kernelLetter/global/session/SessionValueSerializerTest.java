@@ -0,0 +1,154 @@
+package com.kernelLetter.global.session;
+
+import com.kernelLetter.dto.SessionUser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SessionValueSerializer, OffHeapSessionRepository, OffHeapSlabAllocator 단위 테스트
+ */
+class SessionValueSerializerTest {
+
+    private final SessionValueSerializer serializer = new SessionValueSerializer();
+
+    @Test
+    @DisplayName("SessionUser - JDK 직렬화보다 작게 저장하고 그대로 복원")
+    void sessionUser_RoundTrip() {
+        // given
+        SessionUser sessionUser = SessionUser.builder()
+                .id(1L)
+                .kakaoId("123456789")
+                .kakaoEmail("test@kakao.com")
+                .name("홍길동")
+                .email(null)
+                .build();
+
+        // when
+        byte[] bytes = serializer.serialize(sessionUser);
+        SessionUser restored = (SessionUser) serializer.deserialize(bytes);
+
+        // then
+        assertThat(bytes.length).isLessThan(new JdkSerializationRedisSerializer().serialize(sessionUser).length / 4);
+        assertThat(restored).usingRecursiveComparison().isEqualTo(sessionUser);
+    }
+
+    @Test
+    @DisplayName("문자열, 숫자 - 타입을 유지해서 복원")
+    void simpleValues_RoundTrip() {
+        assertThat(serializer.deserialize(serializer.serialize("123456789"))).isEqualTo("123456789");
+        assertThat(serializer.deserialize(serializer.serialize(1_700_000_000_000L))).isEqualTo(1_700_000_000_000L);
+        assertThat(serializer.deserialize(serializer.serialize(1800))).isEqualTo(1800);
+        assertThat(serializer.deserialize(serializer.serialize(null))).isNull();
+    }
+
+    @Test
+    @DisplayName("그 외 타입과 JDK 직렬화로 저장된 기존 값 - JDK 직렬화로 읽음")
+    void otherValues_FallBackToJdk() {
+        // given
+        byte[] legacy = new JdkSerializationRedisSerializer().serialize(List.of("a", "b"));
+
+        // when & then
+        assertThat(serializer.deserialize(legacy)).isEqualTo(List.of("a", "b"));
+        assertThat(serializer.deserialize(serializer.serialize(List.of("a", "b")))).isEqualTo(List.of("a", "b"));
+    }
+
+    @Test
+    @DisplayName("off-heap 세션 저장소 - 저장한 세션을 조회하고 만료된 세션은 정리")
+    void offHeapSessionRepository() {
+        // given
+        OffHeapSessionRepository repository = new OffHeapSessionRepository(serializer, Duration.ofMinutes(30));
+        SessionUser sessionUser = SessionUser.builder().id(1L).kakaoId("123456789").build();
+
+        var session = repository.createSession();
+        session.setAttribute("user", sessionUser);
+        repository.save(session);
+
+        var expired = repository.createSession();
+        expired.setMaxInactiveInterval(Duration.ofSeconds(0));
+        expired.setLastAccessedTime(expired.getLastAccessedTime().minusSeconds(1));
+        repository.save(expired);
+
+        // when
+        var found = repository.findById(session.getId());
+        int removed = repository.cleanUpExpiredSessions();
+
+        // then
+        assertThat(found.<SessionUser>getAttribute("user")).usingRecursiveComparison().isEqualTo(sessionUser);
+        assertThat(removed).isEqualTo(1);
+        assertThat(repository.findById(expired.getId())).isNull();
+        assertThat(repository.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("off-heap 세션 저장소 - 요청마다 저장해도 같은 slot 에 덮어쓰고, 삭제한 세션의 slot 은 재사용")
+    void offHeapSessionRepository_ReusesSlots() {
+        // given
+        OffHeapSessionRepository repository = new OffHeapSessionRepository(serializer, Duration.ofMinutes(30));
+        var session = repository.createSession();
+        session.setAttribute("user", SessionUser.builder().id(1L).kakaoId("123456789").name("홍길동").build());
+        repository.save(session);
+        long reserved = repository.reservedBytes();
+
+        // when: 같은 세션을 여러 번 저장하고, 다른 세션을 만들었다 지우기를 반복
+        for (int i = 0; i < 10_000; i++) {
+            session.setLastAccessedTime(session.getLastAccessedTime().plusMillis(1));
+            repository.save(session);
+
+            var temporary = repository.createSession();
+            temporary.setAttribute("tempKakaoId", "987654321");
+            repository.save(temporary);
+            repository.deleteById(temporary.getId());
+        }
+
+        // then
+        assertThat(repository.reservedBytes()).isEqualTo(reserved);
+        assertThat(repository.size()).isEqualTo(1);
+        assertThat(repository.findById(session.getId()).getLastAccessedTime().toEpochMilli())
+                .isEqualTo(session.getLastAccessedTime().toEpochMilli());
+    }
+
+    @Test
+    @DisplayName("off-heap 세션 저장소 - slot 보다 커진 세션은 더 큰 slot 으로 옮겨 저장")
+    void offHeapSessionRepository_GrowsIntoLargerSlot() {
+        // given
+        OffHeapSessionRepository repository = new OffHeapSessionRepository(serializer, Duration.ofMinutes(30));
+        var session = repository.createSession();
+        session.setAttribute("tempKakaoId", "123456789");
+        repository.save(session);
+
+        // when
+        session.setAttribute("note", "a".repeat(2000));
+        repository.save(session);
+
+        // then
+        var found = repository.findById(session.getId());
+        assertThat(found.<String>getAttribute("note")).hasSize(2000);
+        assertThat(found.<String>getAttribute("tempKakaoId")).isEqualTo("123456789");
+    }
+
+    @Test
+    @DisplayName("off-heap slot 할당 - 모든 slot 이 반납된 chunk 는 하나만 남기고 해제")
+    void offHeapSlabAllocator_ReleasesEmptyChunks() {
+        // given: 256 바이트 slot 으로 chunk 3개를 채움
+        OffHeapSlabAllocator allocator = new OffHeapSlabAllocator();
+        int slotsPerChunk = 1024 * 1024 / 256;
+        List<OffHeapSlabAllocator.Slot> slots = new ArrayList<>();
+        for (int i = 0; i < slotsPerChunk * 3; i++) {
+            slots.add(allocator.allocate(100));
+        }
+        assertThat(allocator.reservedBytes()).isEqualTo(3 * 1024 * 1024);
+
+        // when
+        slots.forEach(allocator::free);
+
+        // then
+        assertThat(allocator.reservedBytes()).isEqualTo(1024 * 1024);
+    }
+}
@@ -0,0 +1,85 @@
+package com.kernelLetter.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * SingleFlight 단위 테스트
+ */
+class SingleFlightTest {
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+    @Test
+    @DisplayName("같은 키로 동시에 요청 - 작업은 한 번만 실행되고 모두 같은 결과를 받음")
+    void concurrentCalls_ShareOneExecution() throws Exception {
+        // given
+        int callers = 20;
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<String>> results = new ArrayList<>();
+
+            // when
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> singleFlight.execute("kakao-1", () -> {
+                    executions.incrementAndGet();
+                    await(release);
+                    return "result";
+                })));
+            }
+
+            // 모든 요청이 실행 중인 작업에 합류할 시간을 준 뒤 완료
+            Thread.sleep(200);
+            release.countDown();
+
+            // then
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+            }
+        }
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("작업이 끝난 뒤 다시 요청 - 새로 실행")
+    void sequentialCalls_ExecuteAgain() {
+        AtomicInteger executions = new AtomicInteger();
+
+        singleFlight.execute("kakao-1", () -> "first" + executions.incrementAndGet());
+        String second = singleFlight.execute("kakao-1", () -> "second" + executions.incrementAndGet());
+
+        assertThat(second).isEqualTo("second2");
+    }
+
+    @Test
+    @DisplayName("작업 실패 - 같은 예외를 그대로 전달하고 다음 요청은 다시 실행")
+    void failure_Propagated() {
+        assertThatThrownBy(() -> singleFlight.execute("kakao-1", () -> {
+            throw new IllegalStateException("카카오 오류");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("카카오 오류");
+
+        assertThat(singleFlight.execute("kakao-1", () -> "recovered")).isEqualTo("recovered");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
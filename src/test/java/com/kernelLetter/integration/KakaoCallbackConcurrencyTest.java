@@ -0,0 +1,62 @@
+package com.kernelLetter.integration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 카카오 로그인 콜백 동시성 테스트
+ * 응답이 느린 카카오 스텁 서버를 상대로 Tomcat 기본 워커 수(200)보다 많은 로그인을 동시에 보내
+ * 모두 처리되는지, 요청이 가상 스레드에서 처리되는지 확인 (처리량은 부하 테스트에서 측정)
+ * (인가코드 N 으로 로그인하면 스텁이 카카오 계정 N 으로 응답)
+ */
+class KakaoCallbackConcurrencyTest extends KakaoStubIntegrationTest {
+
+    private static final int CONCURRENT_LOGINS = 400;
+    private static final Duration KAKAO_LATENCY = Duration.ofMillis(300);
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    @Timeout(value = 60, unit = TimeUnit.SECONDS)
+    @DisplayName("카카오 콜백 - Tomcat 워커 수보다 많은 동시 로그인을 모두 가상 스레드에서 처리")
+    void kakaoCallback_ConcurrentLogins() {
+        // given
+        kakaoStub.setLatency(KAKAO_LATENCY);
+        HttpClient client = HttpClient.newBuilder()
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        // when
+        List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_LOGINS; i++) {
+            HttpRequest request = HttpRequest.newBuilder(
+                            URI.create("http://localhost:" + port + "/auth/kakao/callback?code=" + i))
+                    .GET()
+                    .build();
+            responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding()));
+        }
+
+        // then
+        assertThat(responses).allSatisfy(response ->
+                assertThat(response.join().statusCode()).isEqualTo(302));
+        assertThat(requestThreadRecorder.virtualThreadRequests()).isEqualTo(CONCURRENT_LOGINS);
+        assertThat(requestThreadRecorder.platformThreadRequests()).isZero();
+    }
+}
@@ -0,0 +1,80 @@
+package com.kernelLetter.integration;
+
+import com.kernelLetter.dto.KakaoUserInfoDTO;
+import com.kernelLetter.global.error.ErrorCode;
+import com.kernelLetter.global.error.exception.BusinessException;
+import com.kernelLetter.service.KakaoTokenProvider;
+import com.kernelLetter.service.KakaoUserInfoProvider;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.client.HttpServerErrorException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 카카오 API 장애 격리 테스트
+ * 지정한 횟수만큼 500 을 응답하는 스텁 서버로 재시도, 서킷 브레이커 동작 확인
+ */
+class KakaoResilienceTest extends KakaoStubIntegrationTest {
+
+    @Autowired
+    private KakaoTokenProvider kakaoTokenProvider;
+
+    @Autowired
+    private KakaoUserInfoProvider kakaoUserInfoProvider;
+
+    @Autowired
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("사용자 정보 조회 - 일시적인 5xx 는 재시도 후 성공")
+    void getKakaoUserInfo_RetriesTransientFailures() {
+        // given
+        kakaoStub.failUserInfoRequests(2);
+
+        // when
+        KakaoUserInfoDTO result = kakaoUserInfoProvider.getKakaoUserInfo("test-access-token");
+
+        // then
+        assertThat(result.getKakaoId()).isEqualTo("123456789");
+        assertThat(kakaoStub.userInfoHits()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("토큰 발급 - 실패가 누적되면 서킷이 열리고 카카오를 호출하지 않고 바로 실패")
+    void getAccessToken_CircuitOpens() {
+        // given
+        kakaoStub.failTokenRequests(Integer.MAX_VALUE);
+
+        // 토큰 발급은 재시도하지 않으므로 호출마다 한 번씩만 실패
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> kakaoTokenProvider.getAccessToken("test-code"))
+                    .isInstanceOf(HttpServerErrorException.class);
+        }
+
+        // when & then
+        assertThatThrownBy(() -> kakaoTokenProvider.getAccessToken("test-code"))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.KAKAO_API_UNAVAILABLE);
+        assertThat(kakaoStub.tokenHits()).isEqualTo(4);
+        assertThat(circuitBreakerRegistry.circuitBreaker("kakaoToken").getState())
+                .isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("서킷 브레이커 상태가 메트릭으로 노출됨")
+    void circuitBreakerState_ExposedAsMetric() {
+        assertThat(meterRegistry.find("resilience4j.circuitbreaker.state")
+                .tag("name", "kakaoToken")
+                .gauges()).isNotEmpty();
+    }
+}
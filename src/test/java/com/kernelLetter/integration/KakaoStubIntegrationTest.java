@@ -0,0 +1,65 @@
+package com.kernelLetter.integration;
+
+import com.kernelLetter.support.KakaoStubServer;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * 카카오 스텁 서버(KakaoStubServer)를 상대로 실행하는 통합 테스트의 공통 설정
+ * 스텁 서버와 애플리케이션 컨텍스트는 하위 테스트 클래스가 모두 함께 사용 (설정을 여기에만 두어 컨텍스트를 한 번만 띄움)
+ * - 서킷 브레이커, 재시도: 적은 호출로 동작을 확인할 수 있게 줄여 둠 (KakaoResilienceTest)
+ * - 벌크헤드: Tomcat 워커 수보다 많은 동시 로그인을 막지 않도록 풀어 둠 (KakaoCallbackConcurrencyTest)
+ * - RequestThreadRecorder: 요청 처리 스레드 종류 기록 (KakaoCallbackConcurrencyTest)
+ * 테스트마다 스텁의 호출 기록, 실패 설정, 응답 지연과 서킷 브레이커 상태, 캐시를 초기화
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "kakao.client-id=test-client-id",
+                "kakao.client-secret=test-client-secret",
+                "kakao.redirect-uri=http://localhost/auth/kakao/callback",
+                "resilience4j.circuitbreaker.instances.kakaoToken.sliding-window-size=4",
+                "resilience4j.circuitbreaker.instances.kakaoToken.minimum-number-of-calls=4",
+                "resilience4j.circuitbreaker.instances.kakaoToken.wait-duration-in-open-state=60s",
+                "resilience4j.retry.instances.kakaoUserInfo.wait-duration=10ms",
+                "resilience4j.bulkhead.instances.kakaoToken.max-concurrent-calls=1000",
+                "resilience4j.bulkhead.instances.kakaoUserInfo.max-concurrent-calls=1000"
+        })
+@ActiveProfiles("test")
+@Import(RequestThreadRecorder.class)
+abstract class KakaoStubIntegrationTest {
+
+    // JVM 이 끝날 때까지 유지 (컨텍스트 캐시에 남은 애플리케이션이 계속 이 주소를 사용)
+    protected static final KakaoStubServer kakaoStub = KakaoStubServer.start();
+
+    @Autowired
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    protected RequestThreadRecorder requestThreadRecorder;
+
+    @DynamicPropertySource
+    static void kakaoProperties(DynamicPropertyRegistry registry) {
+        registry.add("kakao.token-uri", kakaoStub::tokenUri);
+        registry.add("kakao.user-info-uri", kakaoStub::userInfoUri);
+    }
+
+    @BeforeEach
+    void resetKakaoStub() {
+        kakaoStub.reset();
+        requestThreadRecorder.reset();
+        circuitBreakerRegistry.getAllCircuitBreakers().forEach(CircuitBreaker::reset);
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+}
@@ -0,0 +1,75 @@
+package com.kernelLetter.integration;
+
+import com.kernelLetter.dto.KakaoUserInfoDTO;
+import com.kernelLetter.global.config.CacheConfig;
+import com.kernelLetter.service.KakaoUserInfoProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 카카오 사용자 정보 캐시 테스트
+ * 같은 access token 으로 조회하면 카카오(스텁 서버)를 다시 호출하지 않는지 확인
+ */
+class KakaoUserInfoCacheTest extends KakaoStubIntegrationTest {
+
+    @Autowired
+    private KakaoUserInfoProvider kakaoUserInfoProvider;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        // 동시 요청이 겹치도록 응답을 조금 늦춤
+        kakaoStub.setLatency(Duration.ofMillis(200));
+    }
+
+    @Test
+    @DisplayName("같은 토큰으로 다시 조회 - 캐시에서 반환하고 원본 토큰은 키로 남지 않음")
+    void sameToken_ServedFromCache() {
+        // when
+        KakaoUserInfoDTO first = kakaoUserInfoProvider.getKakaoUserInfo("cached-access-token");
+        KakaoUserInfoDTO second = kakaoUserInfoProvider.getKakaoUserInfo("cached-access-token");
+
+        // then
+        assertThat(second.getKakaoId()).isEqualTo(first.getKakaoId());
+        assertThat(kakaoStub.userInfoHits()).isEqualTo(1);
+
+        CaffeineCache cache = (CaffeineCache) cacheManager.getCache(CacheConfig.KAKAO_USER_INFO);
+        assertThat(cache.getNativeCache().asMap().keySet())
+                .singleElement()
+                .asString()
+                .hasSize(64)
+                .doesNotContain("cached-access-token");
+    }
+
+    @Test
+    @DisplayName("같은 토큰으로 동시에 조회 - 카카오 호출은 한 번만")
+    void concurrentSameToken_OneRemoteCall() throws Exception {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<KakaoUserInfoDTO>> results = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                results.add(executor.submit(() -> kakaoUserInfoProvider.getKakaoUserInfo("concurrent-access-token")));
+            }
+
+            for (Future<KakaoUserInfoDTO> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS).getKakaoId()).isEqualTo("123456789");
+            }
+        }
+        assertThat(kakaoStub.userInfoHits()).isEqualTo(1);
+    }
+}
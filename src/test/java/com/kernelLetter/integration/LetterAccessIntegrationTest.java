@@ -0,0 +1,116 @@
+package com.kernelLetter.integration;
+
+import com.kernelLetter.domain.entity.User;
+import com.kernelLetter.dto.LetterSendDto;
+import com.kernelLetter.dto.SessionUser;
+import com.kernelLetter.repository.LetterRepository;
+import com.kernelLetter.repository.UserRepository;
+import com.kernelLetter.service.LetterService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 편지 조회 권한 통합 테스트
+ * 받은 편지함은 로그인한 사용자 본인 것만, 편지 본문은 보낸 사람 / 받는 사람만 조회되는지 확인
+ */
+@SpringBootTest(properties = {
+        "kakao.client-id=test-client-id",
+        "kakao.client-secret=test-client-secret",
+        "kakao.redirect-uri=http://localhost/auth/kakao/callback"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class LetterAccessIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private LetterService letterService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LetterRepository letterRepository;
+
+    private User sender;
+    private User receiver;
+    private User other;
+
+    @BeforeEach
+    void setUp() {
+        sender = userRepository.save(User.builder().kakaoId("access-sender").name("보낸사람").isFirstLogin(false).build());
+        receiver = userRepository.save(User.builder().kakaoId("access-receiver").name("받는사람").isFirstLogin(false).build());
+        other = userRepository.save(User.builder().kakaoId("access-other").name("다른사람").isFirstLogin(false).build());
+
+        letterService.sendLetter(new LetterSendDto(sender.getId(), receiver.getId(), "안녕하세요"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        letterRepository.deleteAllInBatch();
+        userRepository.deleteAll(List.of(sender, receiver, other));
+    }
+
+    @Test
+    @DisplayName("받은 편지함 - 로그인한 사용자가 받은 편지만 조회")
+    void inbox_OnlyOwnLetters() throws Exception {
+        mockMvc.perform(get("/Letter/inbox").session(sessionOf(receiver)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.letters.length()").value(1))
+                .andExpect(jsonPath("$.letters[0].senderId").value(sender.getId()));
+
+        // receiverId 를 넘겨도 다른 사람의 편지함은 볼 수 없음
+        mockMvc.perform(get("/Letter/inbox").param("receiverId", receiver.getId().toString()).session(sessionOf(other)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.letters.length()").value(0));
+    }
+
+    @Test
+    @DisplayName("편지 열람 - 보낸 사람, 받는 사람만 본문 조회, 다른 사람은 없는 편지와 같은 응답 (L-003)")
+    void read_OnlyParticipants() throws Exception {
+        // given
+        Long letterId = letterRepository.findBySenderIdAndReceiverId(sender.getId(), receiver.getId())
+                .orElseThrow()
+                .getId();
+
+        // when & then
+        mockMvc.perform(get("/Letter/{letterId}", letterId).session(sessionOf(receiver)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content").value("안녕하세요"));
+        mockMvc.perform(get("/Letter/{letterId}", letterId).session(sessionOf(sender)))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/Letter/{letterId}", letterId).session(sessionOf(other)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("L-003"));
+    }
+
+    @Test
+    @DisplayName("받은 편지함 - 로그인하지 않으면 401 (A-012)")
+    void inbox_NotLoggedIn() throws Exception {
+        mockMvc.perform(get("/Letter/inbox"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.errorCode").value("A-012"));
+    }
+
+    private static MockHttpSession sessionOf(User user) {
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute("user", SessionUser.builder().id(user.getId()).kakaoId(user.getKakaoId()).name(user.getName()).build());
+        return session;
+    }
+}
@@ -0,0 +1,187 @@
+package com.kernelLetter.integration;
+
+import com.kernelLetter.domain.entity.IdempotencyKeyId;
+import com.kernelLetter.domain.entity.User;
+import com.kernelLetter.dto.SessionUser;
+import com.kernelLetter.global.config.CacheConfig;
+import com.kernelLetter.repository.IdempotencyKeyRepository;
+import com.kernelLetter.repository.LetterRepository;
+import com.kernelLetter.repository.UserRepository;
+import com.kernelLetter.service.IdempotencyService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 편지 작성 Idempotency-Key 통합 테스트
+ * 키는 로그인한 사용자별로 관리되므로 요청은 보낸 사람의 세션으로 보냄
+ * 키 등록과 편지 작성이 실제로 커밋되어야 하므로 테스트 트랜잭션 없이 실행하고 끝나면 직접 정리
+ */
+@SpringBootTest(properties = {
+        "kakao.client-id=test-client-id",
+        "kakao.client-secret=test-client-secret",
+        "kakao.redirect-uri=http://localhost/auth/kakao/callback"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class LetterIdempotencyIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LetterRepository letterRepository;
+
+    @Autowired
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private User sender;
+    private User receiver;
+
+    @BeforeEach
+    void setUp() {
+        sender = userRepository.save(User.builder().kakaoId("idempotency-sender").name("보낸사람").isFirstLogin(false).build());
+        receiver = userRepository.save(User.builder().kakaoId("idempotency-receiver").name("받는사람").isFirstLogin(false).build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        idempotencyKeyRepository.deleteAllInBatch();
+        letterRepository.deleteAllInBatch();
+        userRepository.deleteAll(List.of(sender, receiver));
+        cacheManager.getCache(CacheConfig.IDEMPOTENCY_KEYS).clear();
+    }
+
+    @Test
+    @DisplayName("같은 키로 다시 보내면 편지를 다시 작성하지 않고 처음 응답을 반환")
+    void sendLetter_Replayed() throws Exception {
+        // when
+        sendLetter("retry-key-1", "안녕하세요")
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(IdempotencyService.REPLAYED_HEADER));
+
+        // then
+        sendLetter("retry-key-1", "안녕하세요")
+                .andExpect(status().isOk())
+                .andExpect(header().string(IdempotencyService.REPLAYED_HEADER, "true"));
+        assertThat(letterRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("로컬 캐시가 비어도 DB 에 기록된 키로 재시도를 판별")
+    void sendLetter_ReplayedFromDatabase() throws Exception {
+        // given
+        sendLetter("retry-key-2", "안녕하세요").andExpect(status().isOk());
+        cacheManager.getCache(CacheConfig.IDEMPOTENCY_KEYS).clear();
+
+        // when & then
+        sendLetter("retry-key-2", "안녕하세요")
+                .andExpect(status().isOk())
+                .andExpect(header().string(IdempotencyService.REPLAYED_HEADER, "true"));
+        assertThat(letterRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 내용을 보내면 422 (R-002)")
+    void sendLetter_KeyReusedWithDifferentRequest() throws Exception {
+        // given
+        sendLetter("retry-key-3", "안녕하세요").andExpect(status().isOk());
+
+        // when & then
+        sendLetter("retry-key-3", "다른 내용")
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errorCode").value("R-002"));
+    }
+
+    @Test
+    @DisplayName("작성에 실패한 요청은 키를 남기지 않음")
+    void sendLetter_FailureNotRecorded() throws Exception {
+        // given: 이미 작성한 편지
+        sendLetter(null, "첫 편지").andExpect(status().isOk());
+
+        // when
+        sendLetter("retry-key-4", "두 번째 편지").andExpect(status().isBadRequest());
+
+        // then
+        assertThat(idempotencyKeyRepository.existsById(new IdempotencyKeyId(sender.getId(), "retry-key-4"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 사람이 같은 키를 써도 각자 새 요청으로 처리")
+    void sendLetter_SameKeyDifferentSender() throws Exception {
+        // given
+        sendLetter("shared-key", "안녕하세요").andExpect(status().isOk());
+
+        // when & then: 받은 사람이 같은 키로 답장
+        sendLetter(receiver, sender, "shared-key", "반가워요")
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(IdempotencyService.REPLAYED_HEADER));
+        assertThat(letterRepository.count()).isEqualTo(2);
+        assertThat(idempotencyKeyRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 senderId 로 보내면 거절하고 그 사용자의 키에 영향을 주지 않음")
+    void sendLetter_SpoofedSender() throws Exception {
+        // when: 받은 사람이 보낸 사람의 ID 로 같은 키를 먼저 사용
+        mockMvc.perform(letterRequest(sender, receiver, "spoofed-key", "가로챈 내용").session(sessionOf(receiver)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("A-011"));
+
+        // then: 보낸 사람은 같은 키로 정상 작성
+        sendLetter("spoofed-key", "안녕하세요")
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(IdempotencyService.REPLAYED_HEADER));
+        assertThat(letterRepository.count()).isEqualTo(1);
+    }
+
+    private ResultActions sendLetter(String idempotencyKey, String content) throws Exception {
+        return sendLetter(sender, receiver, idempotencyKey, content);
+    }
+
+    private ResultActions sendLetter(User from, User to, String idempotencyKey, String content) throws Exception {
+        return mockMvc.perform(letterRequest(from, to, idempotencyKey, content).session(sessionOf(from)));
+    }
+
+    private static MockHttpServletRequestBuilder letterRequest(User from, User to, String idempotencyKey, String content) {
+        var request = post("/Letter")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"senderId\":" + from.getId() + ",\"receiverId\":" + to.getId()
+                        + ",\"content\":\"" + content + "\"}");
+        if (idempotencyKey != null) {
+            request.header(IdempotencyService.IDEMPOTENCY_KEY_HEADER, idempotencyKey);
+        }
+        return request;
+    }
+
+    private static MockHttpSession sessionOf(User user) {
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute("user", SessionUser.builder().id(user.getId()).kakaoId(user.getKakaoId()).name(user.getName()).build());
+        return session;
+    }
+}
@@ -0,0 +1,56 @@
+package com.kernelLetter.integration;
+
+import com.kernelLetter.dto.SessionUser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 메트릭 통합 테스트
+ * 서비스 구간 타이머, 에러 코드 카운터, 커넥션 풀 / Hibernate 통계가 Prometheus 형식으로 노출되는지 확인
+ */
+@SpringBootTest(properties = {
+        "kakao.client-id=test-client-id",
+        "kakao.client-secret=test-client-secret",
+        "kakao.redirect-uri=http://localhost/auth/kakao/callback"
+})
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+class MetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("편지 삭제 실패 후 - 삭제 구간 히스토그램과 에러 코드 카운터 노출")
+    void prometheusScrape() throws Exception {
+        // given: 로그인한 사용자가 없는 편지 삭제 (L-003)
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute("user", SessionUser.builder().id(1L).kakaoId("metrics-kakao").name("메트릭").build());
+
+        mockMvc.perform(delete("/Letter/{letterId}", 999_999L).session(session))
+                .andExpect(status().isBadRequest());
+
+        // when & then
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("letter_delete_seconds_bucket{")))
+                .andExpect(content().string(containsString("code=\"L-003\"")))
+                .andExpect(content().string(containsString("api_errors_total{")))
+                .andExpect(content().string(containsString("hikaricp_connections_active")))
+                .andExpect(content().string(containsString("hibernate_")));
+    }
+}
@@ -0,0 +1,114 @@
+package com.kernelLetter.integration;
+
+import com.kernelLetter.dto.SessionUser;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 요청 수 제한 통합 테스트
+ * 편지 API 에 버킷 2개 (1시간에 하나씩 충전) 를 걸고, 사용자 / IP 별로 따로 제한되는지 확인
+ * 필터에서 거절한 요청도 에러 코드 카운터(api.errors)에 집계되는지 확인
+ */
+@SpringBootTest(properties = {
+        "kakao.client-id=test-client-id",
+        "kakao.client-secret=test-client-secret",
+        "kakao.redirect-uri=http://localhost/auth/kakao/callback",
+        "rate-limit.enabled=true",
+        "rate-limit.routes[0].name=letter",
+        "rate-limit.routes[0].path=/Letter/**",
+        "rate-limit.routes[0].capacity=2",
+        "rate-limit.routes[0].refill-period=1h"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class RateLimitIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("비로그인 - 같은 IP 로 버킷 크기를 넘기면 429 (R-003) 와 Retry-After, 다른 IP 는 허용")
+    void anonymous_LimitedPerIp() throws Exception {
+        // given: 로그인하지 않은 요청도 401 로 응답하기 전에 제한 횟수에 포함
+        mockMvc.perform(inbox().with(remoteAddr("10.0.0.1"))).andExpect(status().isUnauthorized());
+        mockMvc.perform(inbox().with(remoteAddr("10.0.0.1"))).andExpect(status().isUnauthorized());
+        double tooManyRequests = errorCount("R-003");
+
+        // when & then
+        mockMvc.perform(inbox().with(remoteAddr("10.0.0.1")))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "3600"))
+                .andExpect(jsonPath("$.errorCode").value("R-003"));
+        assertThat(errorCount("R-003")).isEqualTo(tooManyRequests + 1);
+
+        mockMvc.perform(inbox().with(remoteAddr("10.0.0.2"))).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("로그인 - 같은 IP 라도 사용자별로 따로 제한")
+    void loggedIn_LimitedPerUser() throws Exception {
+        // given
+        MockHttpSession first = sessionOf(101L);
+        MockHttpSession second = sessionOf(102L);
+
+        mockMvc.perform(inbox().session(first).with(remoteAddr("10.0.0.3"))).andExpect(status().isOk());
+        mockMvc.perform(inbox().session(first).with(remoteAddr("10.0.0.3"))).andExpect(status().isOk());
+
+        // when & then
+        mockMvc.perform(inbox().session(first).with(remoteAddr("10.0.0.3")))
+                .andExpect(status().isTooManyRequests());
+        mockMvc.perform(inbox().session(second).with(remoteAddr("10.0.0.3")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("route 에 없는 경로는 제한하지 않음")
+    void unmatchedPath_NotLimited() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            mockMvc.perform(get("/api/user/me").with(remoteAddr("10.0.0.4")))
+                    .andExpect(status().isUnauthorized());
+        }
+    }
+
+    private double errorCount(String errorCode) {
+        Counter counter = meterRegistry.find("api.errors").tag("code", errorCode).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private static MockHttpServletRequestBuilder inbox() {
+        return get("/Letter/inbox");
+    }
+
+    private static RequestPostProcessor remoteAddr(String remoteAddr) {
+        return request -> {
+            request.setRemoteAddr(remoteAddr);
+            return request;
+        };
+    }
+
+    private static MockHttpSession sessionOf(Long userId) {
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute("user", SessionUser.builder().id(userId).kakaoId("rate-limit-" + userId).name("제한").build());
+        return session;
+    }
+}
@@ -0,0 +1,125 @@
+package com.kernelLetter.integration;
+
+import com.kernelLetter.dto.SessionUser;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redis 세션 저장소 통합 테스트 (session.store=redis)
+ * 내장 Redis 서버에 세션을 저장하고 다른 서버가 조회하는 상황을 같은 저장소로 확인
+ */
+@SpringBootTest(properties = {
+        "session.store=redis",
+        "kakao.client-id=test-client-id",
+        "kakao.client-secret=test-client-secret",
+        "kakao.redirect-uri=http://localhost/auth/kakao/callback"
+})
+@ActiveProfiles("test")
+class RedisSessionStoreTest {
+
+    private static final int REDIS_PORT = findFreePort();
+    private static final RedisServer redisServer = startRedis();
+
+    @Autowired
+    private SessionRepository<?> sessionRepository;
+
+    @Autowired
+    private RedisConnectionFactory redisConnectionFactory;
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.host", () -> "localhost");
+        registry.add("spring.data.redis.port", () -> REDIS_PORT);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        redisServer.stop();
+    }
+
+    @Test
+    @DisplayName("세션 저장 후 조회 - SessionUser 가 작은 바이너리 형식으로 저장되고 그대로 복원")
+    void saveAndFind() {
+        // given
+        SessionUser sessionUser = SessionUser.builder()
+                .id(1L)
+                .kakaoId("123456789")
+                .kakaoEmail("test@kakao.com")
+                .name("홍길동")
+                .email("hong@example.com")
+                .build();
+
+        String sessionId = saveSession(sessionRepository, "user", sessionUser);
+
+        // when
+        Session found = sessionRepository.findById(sessionId);
+
+        // then
+        assertThat(found.<SessionUser>getAttribute("user")).usingRecursiveComparison().isEqualTo(sessionUser);
+
+        try (RedisConnection connection = redisConnectionFactory.getConnection()) {
+            byte[] stored = connection.hashCommands().hGet(
+                    ("kernelLetter:session:sessions:" + sessionId).getBytes(StandardCharsets.UTF_8),
+                    "sessionAttr:user".getBytes(StandardCharsets.UTF_8));
+
+            assertThat(stored).isNotNull();
+            assertThat(stored[0]).isEqualTo((byte) 0x10);
+        }
+    }
+
+    @Test
+    @DisplayName("세션 삭제 - 삭제 후에는 조회되지 않음")
+    void delete() {
+        // given
+        String sessionId = saveSession(sessionRepository, "tempKakaoId", "123456789");
+
+        // when
+        sessionRepository.deleteById(sessionId);
+
+        // then
+        assertThat(sessionRepository.findById(sessionId)).isNull();
+    }
+
+    private static <S extends Session> String saveSession(SessionRepository<S> repository, String name, Object value) {
+        S session = repository.createSession();
+        session.setAttribute(name, value);
+        repository.save(session);
+        return session.getId();
+    }
+
+    private static int findFreePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static RedisServer startRedis() {
+        try {
+            RedisServer server = new RedisServer(REDIS_PORT);
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
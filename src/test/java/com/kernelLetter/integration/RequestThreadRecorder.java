@@ -0,0 +1,39 @@
+package com.kernelLetter.integration;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 요청을 처리한 스레드가 가상 스레드인지 기록하는 테스트용 필터 (KakaoStubIntegrationTest 에서 등록)
+ */
+class RequestThreadRecorder implements Filter {
+
+    private final AtomicInteger virtualThreadRequests = new AtomicInteger();
+    private final AtomicInteger platformThreadRequests = new AtomicInteger();
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        (Thread.currentThread().isVirtual() ? virtualThreadRequests : platformThreadRequests).incrementAndGet();
+        chain.doFilter(request, response);
+    }
+
+    int virtualThreadRequests() {
+        return virtualThreadRequests.get();
+    }
+
+    int platformThreadRequests() {
+        return platformThreadRequests.get();
+    }
+
+    void reset() {
+        virtualThreadRequests.set(0);
+        platformThreadRequests.set(0);
+    }
+}
@@ -0,0 +1,202 @@
+package com.kernelLetter.integration;
+
+import com.kernelLetter.domain.entity.User;
+import com.kernelLetter.dto.KakaoUserInfoDTO;
+import com.kernelLetter.global.config.CacheConfig;
+import com.kernelLetter.repository.UserRepository;
+import com.kernelLetter.service.KakaoTokenProvider;
+import com.kernelLetter.service.KakaoUserInfoProvider;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 토큰 인증 모드(auth.mode=token) 통합 테스트
+ * 로그인 시 발급한 토큰만으로 사용자를 식별하고 세션을 만들지 않는지 확인
+ */
+@SpringBootTest(properties = {
+        "auth.mode=token",
+        "auth.token.secret=a2VybmVsTGV0dGVyLXRlc3QtdG9rZW4tc2VjcmV0LWtleS0wMTIz"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class TokenAuthIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockBean
+    private KakaoTokenProvider kakaoTokenProvider;
+
+    @MockBean
+    private KakaoUserInfoProvider kakaoUserInfoProvider;
+
+    @BeforeEach
+    void setUp() {
+        // 테스트마다 롤백되는 사용자가 캐시에 남지 않도록 비움
+        cacheManager.getCache(CacheConfig.USER_SNAPSHOT_BY_KAKAO_ID).clear();
+        userRepository.deleteAll();
+        userRepository.save(User.builder()
+                .kakaoId("existing-123456")
+                .kakaoEmail("existing@kakao.com")
+                .name("기존유저")
+                .email("existing@example.com")
+                .isFirstLogin(false)
+                .build());
+
+        KakaoUserInfoDTO kakaoUserInfo = new KakaoUserInfoDTO();
+        kakaoUserInfo.setKakaoId("existing-123456");
+        kakaoUserInfo.setKakaoEmail("existing@kakao.com");
+
+        given(kakaoTokenProvider.getAccessToken(anyString())).willReturn("mock-access-token");
+        given(kakaoUserInfoProvider.getKakaoUserInfo(anyString())).willReturn(kakaoUserInfo);
+    }
+
+    @Test
+    @DisplayName("로그인 후 발급받은 access token 으로 사용자 조회 - 세션 없이 인증")
+    void login_ThenAccessWithToken() throws Exception {
+        // 카카오 콜백: 리다이렉트 주소의 fragment 로 토큰 전달
+        MvcResult login = mockMvc.perform(get("/auth/kakao/callback").param("code", "test-code"))
+                .andExpect(status().is3xxRedirection())
+                .andReturn();
+
+        String location = login.getResponse().getHeader("Location");
+        assertThat(location).startsWith("http://localhost:5173/#accessToken=");
+        assertThat(login.getRequest().getSession(false)).isNull();
+
+        String accessToken = location.substring(location.indexOf("accessToken=") + "accessToken=".length(),
+                location.indexOf("&refreshToken="));
+
+        // access token 으로 현재 사용자 조회
+        MvcResult me = mockMvc.perform(get("/api/user/me")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("기존유저"))
+                .andExpect(jsonPath("$.email").value("existing@example.com"))
+                .andReturn();
+
+        assertThat(me.getRequest().getSession(false)).isNull();
+    }
+
+    @Test
+    @DisplayName("첫 로그인 - 등록용 token 만 발급, 추가 정보 등록 전에는 로그인 사용자로 취급하지 않음")
+    void firstLogin_RegistrationTokenOnly() throws Exception {
+        // given: 처음 로그인하는 카카오 계정
+        KakaoUserInfoDTO newKakaoUser = new KakaoUserInfoDTO();
+        newKakaoUser.setKakaoId("new-987654");
+        newKakaoUser.setKakaoEmail("new@kakao.com");
+        given(kakaoUserInfoProvider.getKakaoUserInfo(anyString())).willReturn(newKakaoUser);
+
+        // when: 카카오 콜백
+        MvcResult login = mockMvc.perform(get("/auth/kakao/callback").param("code", "new-code"))
+                .andExpect(status().is3xxRedirection())
+                .andReturn();
+
+        // then: 추가 정보 입력 페이지로 등록용 token 만 전달 (refresh token 없음)
+        String location = login.getResponse().getHeader("Location");
+        assertThat(location).startsWith("http://localhost:5173/register#registrationToken=");
+        assertThat(location).doesNotContain("accessToken=", "refreshToken=");
+        String registrationToken = location.substring(location.indexOf("registrationToken=") + "registrationToken=".length());
+
+        // then: 등록용 token 으로는 로그인이 필요한 API 를 쓸 수 없음
+        mockMvc.perform(get("/api/user/me")
+                        .header("Authorization", "Bearer " + registrationToken))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/Letter/inbox")
+                        .header("Authorization", "Bearer " + registrationToken))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.errorCode").value("A-012"));
+
+        // when: 등록용 token 으로 추가 정보 등록
+        MvcResult register = mockMvc.perform(post("/api/user/register")
+                        .header("Authorization", "Bearer " + registrationToken)
+                        .contentType("application/json")
+                        .content("{\"name\":\"새유저\",\"email\":\"new@example.com\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("Refresh-Token"))
+                .andReturn();
+
+        // then: 등록 후 발급받은 access token 으로 로그인 사용자 조회
+        mockMvc.perform(get("/api/user/me")
+                        .header("Authorization", register.getResponse().getHeader("Authorization")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("새유저"));
+    }
+
+    @Test
+    @DisplayName("refresh token 으로 토큰 재발급")
+    void refresh() throws Exception {
+        // given
+        MvcResult login = mockMvc.perform(get("/auth/kakao/callback").param("code", "test-code"))
+                .andReturn();
+        String location = login.getResponse().getHeader("Location");
+        String refreshToken = location.substring(location.indexOf("refreshToken=") + "refreshToken=".length());
+
+        // when & then
+        mockMvc.perform(post("/api/auth/refresh")
+                        .header("Refresh-Token", refreshToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accessToken").isNotEmpty())
+                .andExpect(jsonPath("$.refreshToken").isNotEmpty());
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 토큰 - 401 과 에러 코드 응답, 에러 코드 카운터에 집계")
+    void invalidToken() throws Exception {
+        double invalidTokens = errorCount("A-002");
+        double invalidGrantTypes = errorCount("A-004");
+
+        mockMvc.perform(get("/api/user/me")
+                        .header("Authorization", "Bearer not-a-token"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.errorCode").value("A-002"));
+
+        mockMvc.perform(get("/api/user/me")
+                        .header("Authorization", "Basic dXNlcjpwYXNz"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.errorCode").value("A-004"));
+
+        assertThat(errorCount("A-002")).isEqualTo(invalidTokens + 1);
+        assertThat(errorCount("A-004")).isEqualTo(invalidGrantTypes + 1);
+    }
+
+    @Test
+    @DisplayName("토큰 없이 사용자 조회 - 로그인 필요")
+    void noToken() throws Exception {
+        mockMvc.perform(get("/api/user/me"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(content().string("로그인이 필요합니다."));
+    }
+
+    private double errorCount(String errorCode) {
+        Counter counter = meterRegistry.find("api.errors").tag("code", errorCode).counter();
+        return counter == null ? 0 : counter.count();
+    }
+}
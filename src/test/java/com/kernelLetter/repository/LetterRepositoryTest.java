@@ -0,0 +1,89 @@
+package com.kernelLetter.repository;
+
+import com.kernelLetter.domain.entity.Letter;
+import com.kernelLetter.domain.entity.User;
+import com.kernelLetter.dto.LetterInboxDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * LetterRepository 테스트
+ * application-test.yml 의 H2 (MySQL 모드) 로 실제 쿼리 동작 확인
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class LetterRepositoryTest {
+
+    @Autowired
+    private LetterRepository letterRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User receiver;
+    private List<Long> letterIds;
+
+    @BeforeEach
+    void setUp() {
+        receiver = userRepository.save(User.builder()
+                .kakaoId("receiver-kakao")
+                .name("받는사람")
+                .isFirstLogin(false)
+                .build());
+
+        letterIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            User sender = userRepository.save(User.builder()
+                    .kakaoId("sender-kakao-" + i)
+                    .name("보낸사람" + i)
+                    .isFirstLogin(false)
+                    .build());
+            letterIds.add(letterRepository.save(Letter.from(sender, receiver)).getId());
+        }
+    }
+
+    @Test
+    @DisplayName("받은 편지함 - 최신 편지부터 커서 기준으로 이어서 조회")
+    void findInbox_KeysetPaging() {
+        // when
+        List<LetterInboxDto> firstPage = letterRepository.findInbox(receiver.getId(), PageRequest.of(0, 2));
+        Long cursor = firstPage.get(firstPage.size() - 1).getLetterId();
+        List<LetterInboxDto> secondPage = letterRepository.findInboxBefore(receiver.getId(), cursor, PageRequest.of(0, 2));
+
+        // then
+        assertThat(firstPage).extracting(LetterInboxDto::getLetterId)
+                .containsExactly(letterIds.get(4), letterIds.get(3));
+        assertThat(secondPage).extracting(LetterInboxDto::getLetterId)
+                .containsExactly(letterIds.get(2), letterIds.get(1));
+        assertThat(firstPage.get(0).getSenderName()).isEqualTo("보낸사람4");
+    }
+
+    @Test
+    @DisplayName("받은 편지함 - 다른 사용자의 편지는 조회되지 않음")
+    void findInbox_OnlyReceiver() {
+        // given
+        User other = userRepository.save(User.builder()
+                .kakaoId("other-kakao")
+                .name("다른사람")
+                .isFirstLogin(false)
+                .build());
+
+        // when
+        List<LetterInboxDto> inbox = letterRepository.findInbox(other.getId(), PageRequest.of(0, 10));
+
+        // then
+        assertThat(inbox).isEmpty();
+    }
+}
@@ -4,6 +4,7 @@ import com.kernelLetter.domain.entity.User;
 import com.kernelLetter.dto.KakaoUserInfoDTO;
 import com.kernelLetter.dto.LoginResultDTO;
 import com.kernelLetter.dto.SessionUser;
+import com.kernelLetter.dto.UserSnapshot;
 import com.kernelLetter.repository.UserRepository;
 import jakarta.servlet.http.HttpSession;
 import org.junit.jupiter.api.BeforeEach;
@@ -33,6 +34,9 @@ class KakaoAuthServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserService userService;
+
     @Mock
     private KakaoTokenProvider kakaoTokenProvider;
 
@@ -107,7 +111,7 @@ class KakaoAuthServiceTest {
                 .isFirstLogin(true)
                 .build();
 
-        given(userRepository.findByKakaoId(anyString())).willReturn(Optional.of(firstLoginUser));
+        given(userService.findSnapshotByKakaoId(anyString())).willReturn(Optional.of(UserSnapshot.from(firstLoginUser)));
 
         // when
         LoginResultDTO result = kakaoAuthService.processLogin(testKakaoUserInfo);
@@ -123,7 +127,7 @@ class KakaoAuthServiceTest {
     @DisplayName("로그인 처리 - 기존 사용자 정상 로그인")
     void processLogin_ExistingUser() {
         // given
-        given(userRepository.findByKakaoId(anyString())).willReturn(Optional.of(testUser));
+        given(userService.findSnapshotByKakaoId(anyString())).willReturn(Optional.of(UserSnapshot.from(testUser)));
 
         // when
         LoginResultDTO result = kakaoAuthService.processLogin(testKakaoUserInfo);
@@ -139,8 +143,14 @@ class KakaoAuthServiceTest {
     @DisplayName("로그인 처리 - 신규 사용자 회원가입")
     void processLogin_NewUser() {
         // given
-        given(userRepository.findByKakaoId(anyString())).willReturn(Optional.empty());
-        given(userRepository.save(any(User.class))).willReturn(testUser);
+        User newUser = User.builder()
+                .kakaoId("123456789")
+                .kakaoEmail("test@kakao.com")
+                .isFirstLogin(true)
+                .build();
+
+        given(userService.findSnapshotByKakaoId(anyString())).willReturn(Optional.empty());
+        given(userService.registerIfAbsent("123456789", "test@kakao.com")).willReturn(UserSnapshot.from(newUser));
 
         // when
         LoginResultDTO result = kakaoAuthService.processLogin(testKakaoUserInfo);
@@ -148,7 +158,7 @@ class KakaoAuthServiceTest {
         // then
         assertThat(result).isNotNull();
         assertThat(result.isFirstLogin()).isTrue();
-        verify(userRepository, times(1)).save(any(User.class));
+        verify(userService, times(1)).registerIfAbsent("123456789", "test@kakao.com");
         verify(httpSession, times(1)).setAttribute("tempKakaoId", "123456789");
     }
 
@@ -0,0 +1,63 @@
+package com.kernelLetter.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kernelLetter.dto.KakaoUserInfoDTO;
+import com.kernelLetter.global.config.KakaoClientConfig;
+import com.kernelLetter.support.KakaoStubServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * KakaoUserInfoProvider 테스트
+ * 로컬 스텁 서버(KakaoStubServer)로 카카오 API 를 대신하여 실제 HTTP 호출 확인
+ */
+class KakaoUserInfoProviderTest {
+
+    private KakaoStubServer kakaoStub;
+    private KakaoUserInfoProvider kakaoUserInfoProvider;
+
+    @BeforeEach
+    void setUp() {
+        kakaoStub = KakaoStubServer.start();
+
+        kakaoUserInfoProvider = new KakaoUserInfoProvider(
+                new KakaoClientConfig().kakaoRestTemplate(Duration.ofSeconds(1), Duration.ofSeconds(1)),
+                new KakaoResponseReader(new ObjectMapper()));
+        ReflectionTestUtils.setField(kakaoUserInfoProvider, "userInfoUri", kakaoStub.userInfoUri());
+    }
+
+    @AfterEach
+    void tearDown() {
+        kakaoStub.close();
+    }
+
+    @Test
+    @DisplayName("사용자 정보 조회 - 응답에서 카카오 ID, 이메일 추출")
+    void getKakaoUserInfo_Success() {
+        // when
+        KakaoUserInfoDTO result = kakaoUserInfoProvider.getKakaoUserInfo("test-access-token");
+
+        // then
+        assertThat(result.getKakaoId()).isEqualTo("123456789");
+        assertThat(result.getKakaoEmail()).isEqualTo("test@kakao.com");
+    }
+
+    @Test
+    @DisplayName("사용자 정보 조회 - 연속 호출 시 같은 커넥션 재사용")
+    void getKakaoUserInfo_ReusesConnection() {
+        // when
+        for (int i = 0; i < 5; i++) {
+            kakaoUserInfoProvider.getKakaoUserInfo("test-access-token");
+        }
+
+        // then
+        assertThat(kakaoStub.userInfoClientPorts()).hasSize(1);
+    }
+}
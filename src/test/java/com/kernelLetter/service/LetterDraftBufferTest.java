@@ -0,0 +1,172 @@
+package com.kernelLetter.service;
+
+import com.kernelLetter.domain.entity.User;
+import com.kernelLetter.dto.LetterDetailDto;
+import com.kernelLetter.dto.LetterPatchDto;
+import com.kernelLetter.dto.LetterSendDto;
+import com.kernelLetter.global.error.ErrorCode;
+import com.kernelLetter.global.error.exception.BusinessException;
+import com.kernelLetter.repository.LetterRepository;
+import com.kernelLetter.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * LetterDraftBuffer 테스트
+ * 자동 저장 초안이 flush 전까지 DB 에 쓰이지 않고, flush 때 마지막 초안만 한 번 반영되는지 확인
+ * 초안의 기준 버전 이후 다른 저장이 먼저 반영되었으면 초안을 버리는지 확인
+ * 초안 반영은 버전을 올리지 않아 편지를 열었을 때의 버전으로 명시적 저장이 가능한지 확인
+ * (스케줄러는 띄우지 않고 flush 를 직접 호출)
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({LetterService.class, LetterDraftBuffer.class})
+class LetterDraftBufferTest {
+
+    @Autowired
+    private LetterDraftBuffer letterDraftBuffer;
+
+    @Autowired
+    private LetterService letterService;
+
+    @Autowired
+    private LetterRepository letterRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User sender;
+    private User receiver;
+    private Long letterId;
+
+    @BeforeEach
+    void setUp() {
+        sender = userRepository.save(User.builder()
+                .kakaoId("draft-sender")
+                .name("보낸사람")
+                .isFirstLogin(false)
+                .build());
+        receiver = userRepository.save(User.builder()
+                .kakaoId("draft-receiver")
+                .name("받는사람")
+                .isFirstLogin(false)
+                .build());
+
+        letterService.sendLetter(new LetterSendDto(sender.getId(), receiver.getId(), "처음 내용"));
+        letterId = letterRepository.findBySenderIdAndReceiverId(sender.getId(), receiver.getId())
+                .orElseThrow()
+                .getId();
+    }
+
+    @Test
+    @DisplayName("자동 저장 - 여러 번 저장해도 flush 때 마지막 초안만 한 번 반영")
+    void saveDraft_CoalescedUntilFlush() {
+        // given
+        Long initialVersion = letterService.findLetter(letterId, sender.getId()).getVersion();
+
+        // when
+        letterDraftBuffer.saveDraft(receiver.getId(), new LetterPatchDto(sender.getId(), "초안 1"));
+        letterDraftBuffer.saveDraft(receiver.getId(), new LetterPatchDto(sender.getId(), "초안 2"));
+        letterDraftBuffer.saveDraft(receiver.getId(), new LetterPatchDto(sender.getId(), "초안 3".repeat(200)));
+
+        // then: flush 전에는 DB 그대로
+        assertThat(letterDraftBuffer.pendingCount()).isEqualTo(1);
+        assertThat(letterService.findLetter(letterId, sender.getId()).getContent()).isEqualTo("처음 내용");
+
+        // then: flush 후 마지막 초안 (압축 대상 길이) 이 반영되고 버전은 그대로
+        assertThat(letterDraftBuffer.flush()).isEqualTo(1);
+
+        LetterDetailDto detail = letterService.findLetter(letterId, sender.getId());
+        assertThat(detail.getContent()).isEqualTo("초안 3".repeat(200));
+        assertThat(detail.getVersion()).isEqualTo(initialVersion);
+        assertThat(letterDraftBuffer.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("명시적 저장 - 대기 중인 초안은 버리고 요청 본문을 바로 저장")
+    void save_DiscardsPendingDraft() {
+        // given
+        letterDraftBuffer.saveDraft(receiver.getId(), new LetterPatchDto(sender.getId(), "저장 전 초안"));
+
+        // when
+        letterDraftBuffer.save(receiver.getId(), new LetterPatchDto(sender.getId(), "최종 내용"));
+
+        // then
+        assertThat(letterDraftBuffer.pendingCount()).isZero();
+        assertThat(letterDraftBuffer.flush()).isZero();
+        assertThat(letterService.findLetter(letterId, sender.getId()).getContent()).isEqualTo("최종 내용");
+    }
+
+    @Test
+    @DisplayName("명시적 저장 - 자동 저장 초안이 flush 된 뒤에도 편지를 열었을 때의 버전으로 저장")
+    void save_WithOpenedVersionAfterDraftFlush() {
+        // given: 편지를 열고 자동 저장, flush 주기가 지남
+        Long openedVersion = letterService.findLetter(letterId, sender.getId()).getVersion();
+        letterDraftBuffer.saveDraft(receiver.getId(), new LetterPatchDto(sender.getId(), "자동 저장 초안"));
+        letterDraftBuffer.flush();
+
+        // when
+        letterDraftBuffer.save(receiver.getId(), new LetterPatchDto(sender.getId(), "최종 내용", openedVersion));
+
+        // then
+        LetterDetailDto detail = letterService.findLetter(letterId, sender.getId());
+        assertThat(detail.getContent()).isEqualTo("최종 내용");
+        assertThat(detail.getVersion()).isEqualTo(openedVersion + 1);
+    }
+
+    @Test
+    @DisplayName("자동 저장 - 초안을 받은 뒤 다른 곳(다른 서버)의 저장이 먼저 반영되면 flush 때 초안을 버림")
+    void saveDraft_DiscardedAfterConcurrentSave() {
+        // given: 버퍼를 거치지 않은 저장 (다른 서버의 명시적 저장과 같음)
+        letterDraftBuffer.saveDraft(receiver.getId(), new LetterPatchDto(sender.getId(), "오래된 초안"));
+        letterService.patch(receiver.getId(), new LetterPatchDto(sender.getId(), "다른 서버에서 저장"));
+        Long savedVersion = letterService.findLetter(letterId, sender.getId()).getVersion();
+
+        // when
+        int flushed = letterDraftBuffer.flush();
+
+        // then
+        assertThat(flushed).isZero();
+        assertThat(letterDraftBuffer.pendingCount()).isZero();
+        LetterDetailDto detail = letterService.findLetter(letterId, sender.getId());
+        assertThat(detail.getContent()).isEqualTo("다른 서버에서 저장");
+        assertThat(detail.getVersion()).isEqualTo(savedVersion);
+    }
+
+    @Test
+    @DisplayName("자동 저장 - 반영 후 들어온 초안은 다음 flush 때 반영")
+    void saveDraft_AfterFlush() {
+        // given
+        letterDraftBuffer.saveDraft(receiver.getId(), new LetterPatchDto(sender.getId(), "초안 1"));
+        letterDraftBuffer.flush();
+
+        // when
+        letterDraftBuffer.saveDraft(receiver.getId(), new LetterPatchDto(sender.getId(), "초안 2"));
+
+        // then
+        assertThat(letterDraftBuffer.flush()).isEqualTo(1);
+        assertThat(letterService.findLetter(letterId, sender.getId()).getContent()).isEqualTo("초안 2");
+    }
+
+    @Test
+    @DisplayName("자동 저장 - 편지가 없으면 버퍼에 넣지 않고 LETTER_NOT_EXISTS")
+    void saveDraft_LetterNotExists() {
+        // when & then
+        assertThatThrownBy(() -> letterDraftBuffer.saveDraft(sender.getId(),
+                new LetterPatchDto(receiver.getId(), "없는 편지의 초안")))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.LETTER_NOT_EXISTS);
+        assertThat(letterDraftBuffer.pendingCount()).isZero();
+    }
+}
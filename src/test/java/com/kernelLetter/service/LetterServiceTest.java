@@ -0,0 +1,282 @@
+package com.kernelLetter.service;
+
+import com.kernelLetter.domain.entity.Letter;
+import com.kernelLetter.domain.entity.User;
+import com.kernelLetter.dto.LetterBatchResultDto;
+import com.kernelLetter.dto.LetterDetailDto;
+import com.kernelLetter.dto.LetterPatchDto;
+import com.kernelLetter.dto.LetterSendDto;
+import com.kernelLetter.global.error.ErrorCode;
+import com.kernelLetter.global.error.exception.BusinessException;
+import com.kernelLetter.repository.LetterBodyRepository;
+import com.kernelLetter.repository.LetterRepository;
+import com.kernelLetter.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * LetterService 테스트
+ * DB 제약 조건에 의존하는 로직이므로 H2 (MySQL 모드) 위에서 실행
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(LetterService.class)
+class LetterServiceTest {
+
+    @Autowired
+    private LetterService letterService;
+
+    @Autowired
+    private LetterRepository letterRepository;
+
+    @Autowired
+    private LetterBodyRepository letterBodyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User sender;
+    private User receiver;
+
+    @BeforeEach
+    void setUp() {
+        sender = userRepository.save(User.builder()
+                .kakaoId("sender-kakao")
+                .name("보낸사람")
+                .isFirstLogin(false)
+                .build());
+        receiver = userRepository.save(User.builder()
+                .kakaoId("receiver-kakao")
+                .name("받는사람")
+                .isFirstLogin(false)
+                .build());
+    }
+
+    @Test
+    @DisplayName("편지 작성 - 성공")
+    void sendLetter_Success() {
+        // when
+        letterService.sendLetter(new LetterSendDto(sender.getId(), receiver.getId(), "안녕하세요"));
+
+        // then
+        assertThat(letterRepository.findBySenderIdAndReceiverId(sender.getId(), receiver.getId())).isPresent();
+    }
+
+    @Test
+    @DisplayName("편지 작성 - 같은 사용자에게 두 번 작성하면 유니크 제약 위반을 LETTER_ALREADY_EXISTS 로 변환")
+    void sendLetter_Duplicate() {
+        // given
+        letterService.sendLetter(new LetterSendDto(sender.getId(), receiver.getId(), "첫 편지"));
+
+        // when & then
+        assertThatThrownBy(() -> letterService.sendLetter(new LetterSendDto(sender.getId(), receiver.getId(), "두 번째 편지")))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.LETTER_ALREADY_EXISTS);
+    }
+
+    @Test
+    @DisplayName("편지 작성 - 존재하지 않는 회원에게 작성하면 외래 키 위반을 USER_NOT_EXISTS 로 변환")
+    void sendLetter_ReceiverNotExists() {
+        // given
+        Long unknownReceiverId = receiver.getId() + 1000;
+
+        // when & then
+        assertThatThrownBy(() -> letterService.sendLetter(new LetterSendDto(sender.getId(), unknownReceiverId, "안녕하세요")))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.USER_NOT_EXISTS);
+    }
+
+    @Test
+    @DisplayName("편지 일괄 작성 - 유효한 편지만 저장하고 편지별 실패 사유 반환")
+    void sendLetters_PartialSuccess() {
+        // given
+        User anotherReceiver = userRepository.save(User.builder()
+                .kakaoId("another-kakao")
+                .name("또다른사람")
+                .isFirstLogin(false)
+                .build());
+        letterService.sendLetter(new LetterSendDto(sender.getId(), receiver.getId(), "이미 보낸 편지"));
+
+        List<LetterSendDto> dtos = List.of(
+                new LetterSendDto(sender.getId(), anotherReceiver.getId(), "새 편지"),
+                new LetterSendDto(sender.getId(), anotherReceiver.getId(), "요청 안에서 중복"),
+                new LetterSendDto(sender.getId(), receiver.getId(), "이미 보낸 사람"),
+                new LetterSendDto(sender.getId(), anotherReceiver.getId() + 1000, "없는 회원"));
+
+        // when
+        List<LetterBatchResultDto> results = letterService.sendLetters(dtos);
+
+        // then
+        assertThat(results).extracting(LetterBatchResultDto::isSent)
+                .containsExactly(true, false, false, false);
+        assertThat(results).extracting(LetterBatchResultDto::getErrorCode)
+                .containsExactly(null,
+                        ErrorCode.LETTER_ALREADY_EXISTS.getErrorCode(),
+                        ErrorCode.LETTER_ALREADY_EXISTS.getErrorCode(),
+                        ErrorCode.USER_NOT_EXISTS.getErrorCode());
+        assertThat(letterRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("편지 열람 - 수정한 본문이 letter_body 에서 조회됨")
+    void findLetter_AfterPatch() {
+        // given
+        letterService.sendLetter(new LetterSendDto(sender.getId(), receiver.getId(), "처음 내용"));
+        letterService.patch(receiver.getId(), new LetterPatchDto(sender.getId(), "수정한 내용"));
+        Long letterId = letterRepository.findBySenderIdAndReceiverId(sender.getId(), receiver.getId())
+                .orElseThrow()
+                .getId();
+
+        // when
+        LetterDetailDto detail = letterService.findLetter(letterId, receiver.getId());
+
+        // then
+        assertThat(detail.getContent()).isEqualTo("수정한 내용");
+        assertThat(detail.getSenderId()).isEqualTo(sender.getId());
+        assertThat(letterBodyRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("편지 열람 - 보낸 사람, 받는 사람이 아니면 LETTER_NOT_EXISTS")
+    void findLetter_NotParticipant() {
+        // given
+        User stranger = userRepository.save(User.builder()
+                .kakaoId("stranger-kakao")
+                .name("다른사람")
+                .isFirstLogin(false)
+                .build());
+        letterService.sendLetter(new LetterSendDto(sender.getId(), receiver.getId(), "처음 내용"));
+        Long letterId = letterRepository.findBySenderIdAndReceiverId(sender.getId(), receiver.getId())
+                .orElseThrow()
+                .getId();
+
+        // when & then
+        assertThatThrownBy(() -> letterService.findLetter(letterId, stranger.getId()))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.LETTER_NOT_EXISTS);
+    }
+
+    @Test
+    @DisplayName("편지 수정 - 수정할 때마다 본문 버전이 1씩 증가")
+    void patch_IncrementsVersion() {
+        // given
+        letterService.sendLetter(new LetterSendDto(sender.getId(), receiver.getId(), "처음 내용"));
+        Long letterId = letterRepository.findBySenderIdAndReceiverId(sender.getId(), receiver.getId())
+                .orElseThrow()
+                .getId();
+        Long initialVersion = letterService.findLetter(letterId, sender.getId()).getVersion();
+
+        // when
+        letterService.patch(receiver.getId(), new LetterPatchDto(sender.getId(), "두 번째 내용", initialVersion));
+        letterService.patch(receiver.getId(), new LetterPatchDto(sender.getId(), "세 번째 내용"));
+
+        // then
+        LetterDetailDto detail = letterService.findLetter(letterId, sender.getId());
+        assertThat(detail.getContent()).isEqualTo("세 번째 내용");
+        assertThat(detail.getVersion()).isEqualTo(initialVersion + 2);
+    }
+
+    @Test
+    @DisplayName("편지 수정 - 기대 버전이 현재 버전과 다르면 LETTER_VERSION_CONFLICT, 본문은 그대로")
+    void patch_StaleVersion() {
+        // given
+        letterService.sendLetter(new LetterSendDto(sender.getId(), receiver.getId(), "처음 내용"));
+        Long letterId = letterRepository.findBySenderIdAndReceiverId(sender.getId(), receiver.getId())
+                .orElseThrow()
+                .getId();
+        Long openedVersion = letterService.findLetter(letterId, sender.getId()).getVersion();
+        letterService.patch(receiver.getId(), new LetterPatchDto(sender.getId(), "다른 기기에서 수정", openedVersion));
+
+        // when & then
+        assertThatThrownBy(() -> letterService.patch(receiver.getId(),
+                new LetterPatchDto(sender.getId(), "오래된 화면에서 수정", openedVersion)))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.LETTER_VERSION_CONFLICT);
+        assertThat(letterService.findLetter(letterId, sender.getId()).getContent()).isEqualTo("다른 기기에서 수정");
+    }
+
+    @Test
+    @DisplayName("편지 수정 - 편지가 없으면 기대 버전과 관계없이 LETTER_NOT_EXISTS")
+    void patch_LetterNotExists() {
+        // when & then
+        assertThatThrownBy(() -> letterService.patch(receiver.getId(),
+                new LetterPatchDto(sender.getId(), "없는 편지", 0L)))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.LETTER_NOT_EXISTS);
+    }
+
+    @Test
+    @DisplayName("편지 삭제 - 보낸 사람 본인이면 편지와 본문이 함께 삭제됨")
+    void delete_BySender() {
+        // given
+        letterService.sendLetter(new LetterSendDto(sender.getId(), receiver.getId(), "지울 편지"));
+        Long letterId = letterRepository.findBySenderIdAndReceiverId(sender.getId(), receiver.getId())
+                .orElseThrow()
+                .getId();
+
+        // when
+        letterService.delete(letterId, sender.getId());
+
+        // then
+        assertThat(letterRepository.count()).isZero();
+        assertThat(letterBodyRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("편지 삭제 - 본인이 보낸 편지가 아니면 LETTER_NOT_EXISTS, 편지는 그대로")
+    void delete_NotSender() {
+        // given
+        letterService.sendLetter(new LetterSendDto(sender.getId(), receiver.getId(), "남의 편지"));
+        Long letterId = letterRepository.findBySenderIdAndReceiverId(sender.getId(), receiver.getId())
+                .orElseThrow()
+                .getId();
+
+        // when & then
+        assertThatThrownBy(() -> letterService.delete(letterId, receiver.getId()))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.LETTER_NOT_EXISTS);
+        assertThat(letterRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("편지 일괄 삭제 - 본인이 보낸 편지만 삭제하고 삭제한 수 반환")
+    void deleteAll_OnlyOwnLetters() {
+        // given
+        User another = userRepository.save(User.builder()
+                .kakaoId("another-kakao")
+                .name("또다른사람")
+                .isFirstLogin(false)
+                .build());
+        letterService.sendLetter(new LetterSendDto(sender.getId(), receiver.getId(), "첫 번째"));
+        letterService.sendLetter(new LetterSendDto(sender.getId(), another.getId(), "두 번째"));
+        letterService.sendLetter(new LetterSendDto(receiver.getId(), sender.getId(), "받은 편지"));
+
+        List<Long> letterIds = letterRepository.findAll().stream().map(Letter::getId).toList();
+
+        // when
+        int deleted = letterService.deleteAll(letterIds, sender.getId());
+
+        // then
+        assertThat(deleted).isEqualTo(2);
+        assertThat(letterRepository.findBySenderIdAndReceiverId(receiver.getId(), sender.getId())).isPresent();
+        assertThat(letterBodyRepository.count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,103 @@
+package com.kernelLetter.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.kernelLetter.domain.entity.User;
+import com.kernelLetter.dto.UserSnapshot;
+import com.kernelLetter.global.config.CacheConfig;
+import com.kernelLetter.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * UserService 테스트 (사용자 정보 캐시, 동시 가입)
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({UserService.class, CacheConfig.class})
+class UserServiceTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Cache<Object, Object> cache;
+
+    @BeforeEach
+    void setUp() {
+        CaffeineCache caffeineCache = (CaffeineCache) cacheManager.getCache(CacheConfig.USER_SNAPSHOT_BY_KAKAO_ID);
+        cache = caffeineCache.getNativeCache();
+        cache.invalidateAll();
+    }
+
+    @Test
+    @DisplayName("가입을 마친 사용자 - 두 번째 조회부터 캐시에서 반환")
+    void registeredUser_Cached() {
+        // given
+        userRepository.save(User.builder()
+                .kakaoId("123456789")
+                .name("테스트유저")
+                .email("test@example.com")
+                .isFirstLogin(false)
+                .build());
+        long hitsBefore = cache.stats().hitCount();
+
+        // when
+        Optional<UserSnapshot> first = userService.findSnapshotByKakaoId("123456789");
+        Optional<UserSnapshot> second = userService.findSnapshotByKakaoId("123456789");
+
+        // then
+        assertThat(first).isPresent();
+        assertThat(second.get()).isSameAs(first.get());
+        assertThat(cache.stats().hitCount() - hitsBefore).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("추가 정보 입력 전 사용자, 가입하지 않은 사용자 - 캐시하지 않음")
+    void firstLoginOrUnknownUser_NotCached() {
+        // given
+        userRepository.save(User.builder()
+                .kakaoId("first-login")
+                .isFirstLogin(true)
+                .build());
+
+        // when
+        Optional<UserSnapshot> firstLogin = userService.findSnapshotByKakaoId("first-login");
+        Optional<UserSnapshot> unknown = userService.findSnapshotByKakaoId("unknown");
+
+        // then
+        assertThat(firstLogin).isPresent();
+        assertThat(unknown).isEmpty();
+        assertThat(cache.estimatedSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 카카오 계정으로 여러 번 가입 - 한 행만 생성")
+    void registerIfAbsent_InsertsOnce() {
+        // when
+        UserSnapshot first = userService.registerIfAbsent("123456789", "test@kakao.com");
+        UserSnapshot second = userService.registerIfAbsent("123456789", "test@kakao.com");
+
+        // then
+        assertThat(first.getId()).isEqualTo(second.getId());
+        assertThat(first.isFirstLogin()).isTrue();
+        assertThat(userRepository.count()).isEqualTo(1);
+    }
+}
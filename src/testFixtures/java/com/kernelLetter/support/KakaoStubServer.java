@@ -0,0 +1,179 @@
+package com.kernelLetter.support;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * kauth.kakao.com / kapi.kakao.com 을 대신하는 로컬 스텁 서버 (테스트, 부하 테스트 공용)
+ * 인가코드 X 로 토큰을 발급하면 access token 은 token-X
+ * access token 이 token-N 또는 token-N-... 이면 카카오 ID 는 NUMBERED_KAKAO_ID_BASE + N, 그 외 토큰은 DEFAULT_KAKAO_ID
+ * (같은 가상 사용자가 다시 로그인하면 같은 카카오 계정으로 처리됨)
+ */
+public class KakaoStubServer implements AutoCloseable {
+
+    public static final String TOKEN_PATH = "/oauth/token";
+    public static final String USER_INFO_PATH = "/v2/user/me";
+
+    public static final long DEFAULT_KAKAO_ID = 123456789L;
+    public static final String DEFAULT_KAKAO_EMAIL = "test@kakao.com";
+    public static final long NUMBERED_KAKAO_ID_BASE = 7_000_000_000L;
+
+    private static final String TOKEN_PREFIX = "token-";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private volatile long latencyMillis;
+    private final AtomicInteger tokenHits = new AtomicInteger();
+    private final AtomicInteger userInfoHits = new AtomicInteger();
+    private final AtomicInteger tokenFailures = new AtomicInteger();
+    private final AtomicInteger userInfoFailures = new AtomicInteger();
+    // 사용자 정보 요청을 보낸 클라이언트 포트 (커넥션이 재사용되면 포트가 같음)
+    private final Set<Integer> userInfoClientPorts = ConcurrentHashMap.newKeySet();
+
+    private KakaoStubServer(HttpServer server, ExecutorService executor) {
+        this.server = server;
+        this.executor = executor;
+    }
+
+    // 빈 포트로 실행 (응답 지연 없음)
+    public static KakaoStubServer start() {
+        return start(Duration.ZERO);
+    }
+
+    // 응답마다 latency 만큼 지연시키는 스텁 서버를 빈 포트로 실행
+    public static KakaoStubServer start(Duration latency) {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 1000);
+            ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+            server.setExecutor(executor);
+
+            KakaoStubServer stub = new KakaoStubServer(server, executor);
+            stub.setLatency(latency);
+            server.createContext(TOKEN_PATH, stub::issueToken);
+            server.createContext(USER_INFO_PATH, stub::userInfo);
+            server.start();
+            return stub;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    public String tokenUri() {
+        return baseUrl() + TOKEN_PATH;
+    }
+
+    public String userInfoUri() {
+        return baseUrl() + USER_INFO_PATH;
+    }
+
+    public void setLatency(Duration latency) {
+        this.latencyMillis = latency.toMillis();
+    }
+
+    // 다음 count 번의 토큰 발급 요청에 500 응답
+    public void failTokenRequests(int count) {
+        tokenFailures.set(count);
+    }
+
+    // 다음 count 번의 사용자 정보 요청에 500 응답
+    public void failUserInfoRequests(int count) {
+        userInfoFailures.set(count);
+    }
+
+    public int tokenHits() {
+        return tokenHits.get();
+    }
+
+    public int userInfoHits() {
+        return userInfoHits.get();
+    }
+
+    public Set<Integer> userInfoClientPorts() {
+        return userInfoClientPorts;
+    }
+
+    // 호출 기록, 실패 설정, 응답 지연 초기화
+    public void reset() {
+        latencyMillis = 0;
+        tokenHits.set(0);
+        userInfoHits.set(0);
+        tokenFailures.set(0);
+        userInfoFailures.set(0);
+        userInfoClientPorts.clear();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+    }
+
+    private void issueToken(HttpExchange exchange) throws IOException {
+        tokenHits.incrementAndGet();
+        String form = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        String code = form.replaceAll(".*(?:^|&)code=([^&]*).*", "$1");
+        respond(exchange, tokenFailures, "{\"access_token\":\"" + TOKEN_PREFIX + code + "\"}");
+    }
+
+    private void userInfo(HttpExchange exchange) throws IOException {
+        userInfoHits.incrementAndGet();
+        userInfoClientPorts.add(exchange.getRemoteAddress().getPort());
+
+        String accessToken = exchange.getRequestHeaders().getFirst("Authorization").substring("Bearer ".length());
+        String userNumber = userNumberOf(accessToken);
+        long kakaoId = userNumber == null ? DEFAULT_KAKAO_ID : NUMBERED_KAKAO_ID_BASE + Long.parseLong(userNumber);
+        String email = userNumber == null ? DEFAULT_KAKAO_EMAIL : "user-" + userNumber + "@kakao.com";
+
+        respond(exchange, userInfoFailures, "{\"id\":" + kakaoId + ",\"connected_at\":\"2025-01-01T00:00:00Z\","
+                + "\"properties\":{\"nickname\":\"테스트\"},"
+                + "\"kakao_account\":{\"has_email\":true,\"email\":\"" + email + "\"}}");
+    }
+
+    // token-N, token-N-... 의 N (그 외 토큰은 null)
+    private static String userNumberOf(String accessToken) {
+        if (!accessToken.startsWith(TOKEN_PREFIX)) {
+            return null;
+        }
+        String rest = accessToken.substring(TOKEN_PREFIX.length());
+        int end = rest.indexOf('-');
+        String number = end < 0 ? rest : rest.substring(0, end);
+        return !number.isEmpty() && number.chars().allMatch(Character::isDigit) ? number : null;
+    }
+
+    // failures 가 남아 있으면 500, 아니면 json 으로 응답
+    private void respond(HttpExchange exchange, AtomicInteger failures, String json) throws IOException {
+        try {
+            if (latencyMillis > 0) {
+                Thread.sleep(latencyMillis);
+            }
+
+            boolean fail = failures.getAndUpdate(remaining -> Math.max(remaining - 1, 0)) > 0;
+            byte[] body = (fail ? "{\"error\":\"internal\"}" : json).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json;charset=UTF-8");
+            exchange.sendResponseHeaders(fail ? 500 : 200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+}